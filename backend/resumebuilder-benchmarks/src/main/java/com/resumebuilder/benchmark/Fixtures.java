@@ -0,0 +1,40 @@
+package com.resumebuilder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Field;
+
+/**
+ * Wiring for beans used outside a Spring context
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Set a private (usually @Autowired or @Value) field
+     */
+    public static <T> T inject(T target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+            return target;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + target.getClass().getSimpleName() + "." + fieldName, e);
+        }
+    }
+
+    /**
+     * An ObjectMapper configured like Spring Boot's default one
+     */
+    public static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.resumebuilder.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Closed-loop HTTP load against a running server, for comparing the platform
+ * and virtual thread modes. Start the application once with
+ * VIRTUAL_THREADS=false and once with VIRTUAL_THREADS=true (Java 21), and run
+ * the same scenario against each:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.resumebuilder.benchmark.LoadTest \
+ *     url=http://localhost:8080 scenario=summary clients=400 seconds=30
+ * </pre>
+ *
+ * Scenarios: summary (Mongo-bound reads), login (BCrypt plus Mongo), pdf
+ * (render and stream). Each client sends its next request as soon as the
+ * previous one completes; the report gives throughput, latency percentiles
+ * and how many requests were turned away with 503.
+ */
+public class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "url", "http://localhost:8080", "scenario", "summary",
+                "clients", "200", "seconds", "30", "warmup", "5"));
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split > 0) {
+                options.put(arg.substring(0, split), arg.substring(split + 1));
+            }
+        }
+
+        String baseUrl = options.get("url");
+        String scenario = options.get("scenario");
+        int clients = Integer.parseInt(options.get("clients"));
+        int seconds = Integer.parseInt(options.get("seconds"));
+        int warmup = Integer.parseInt(options.get("warmup"));
+
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // One user and one resume shared by all clients
+        String email = "load-" + UUID.randomUUID() + "@example.com";
+        String password = "load-test-password";
+        send(http, post(baseUrl + "/api/auth/register",
+                Map.of("fullName", "Load Test", "email", email, "password", password), null));
+        String token = JSON.readTree(send(http, post(baseUrl + "/api/auth/login",
+                Map.of("email", email, "password", password), null)).body()).get("token").asText();
+        JsonNode resume = JSON.readTree(send(http, post(baseUrl + "/api/resumes",
+                Map.of("personalInfo", Map.of("fullName", "Load Test", "summary", "Benchmark resume"),
+                        "skills", List.of("Java", "Spring Boot", "MongoDB")), token)).body());
+
+        HttpRequest request = switch (scenario) {
+            case "summary" -> get(baseUrl + "/api/resumes/summary?limit=20", token);
+            case "login" -> post(baseUrl + "/api/auth/login", Map.of("email", email, "password", password), null);
+            case "pdf" -> get(baseUrl + "/api/pdf/resume/" + resume.get("id").asText(), token);
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+
+        Result warm = run(http, request, clients, warmup);
+        Result result = run(http, request, clients, seconds);
+
+        System.out.printf("scenario=%s clients=%d seconds=%d (warmup %d requests)%n",
+                scenario, clients, seconds, warm.requests());
+        System.out.printf("requests=%d ok=%d overloaded(503)=%d errors=%d%n",
+                result.requests(), result.ok, result.overloaded, result.errors);
+        System.out.printf("throughput=%.1f req/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                result.requests() / (double) seconds,
+                result.percentile(50), result.percentile(95), result.percentile(99), result.percentile(100));
+    }
+
+    private static Result run(HttpClient http, HttpRequest request, int clients, int seconds)
+            throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(clients);
+        List<Result> perClient = new ArrayList<>();
+
+        for (int i = 0; i < clients; i++) {
+            Result local = new Result();
+            perClient.add(local);
+            Thread client = new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            local.record(response.statusCode(), System.nanoTime() - start);
+                        } catch (IOException e) {
+                            local.record(-1, System.nanoTime() - start);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + i);
+            client.setDaemon(true);
+            client.start();
+        }
+
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        done.await();
+
+        Result total = new Result();
+        perClient.forEach(total::merge);
+        return total;
+    }
+
+    private static HttpResponse<String> send(HttpClient http, HttpRequest request)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private static HttpRequest post(String url, Object body, String token) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    /**
+     * Counts and latencies of one client, or of all clients once merged
+     */
+    private static final class Result {
+        long ok;
+        long overloaded;
+        long errors;
+        long[] latencies = new long[1024];
+        int count;
+
+        void record(int status, long nanos) {
+            if (status / 100 == 2) {
+                ok++;
+            } else if (status == 503) {
+                overloaded++;
+            } else {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Result other) {
+            ok += other.ok;
+            overloaded += other.overloaded;
+            errors += other.errors;
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+        }
+
+        long requests() {
+            return ok + overloaded + errors;
+        }
+
+        double percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.min(count - 1, Math.ceil(p / 100 * count) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.resumebuilder.benchmark;
+
+import com.resumebuilder.dto.ResumeRequest;
+import com.resumebuilder.model.Resume;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic resumes of three sizes for the benchmarks
+ */
+public final class SyntheticResumes {
+
+    public enum Size {
+        // experience, education, projects, skills, sentences per description
+        SMALL(1, 1, 0, 5, 2),
+        MEDIUM(5, 2, 3, 20, 5),
+        HUGE(40, 8, 25, 150, 20);
+
+        final int experience;
+        final int education;
+        final int projects;
+        final int skills;
+        final int sentences;
+
+        Size(int experience, int education, int projects, int skills, int sentences) {
+            this.experience = experience;
+            this.education = education;
+            this.projects = projects;
+            this.skills = skills;
+            this.sentences = sentences;
+        }
+    }
+
+    private static final String SENTENCE =
+            "Designed and shipped Java and Spring Boot services backed by MongoDB, cutting p99 latency by 40 percent. ";
+
+    private SyntheticResumes() {
+    }
+
+    public static Resume resume(Size size) {
+        Resume resume = new Resume();
+        resume.setId("bench-" + size.name().toLowerCase());
+        resume.setUserEmail("bench@example.com");
+        resume.setTitle("Resume of Jordan Example");
+        resume.setFullName("Jordan Example");
+        resume.setCreatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        resume.setUpdatedAt(Instant.parse("2024-06-01T00:00:00Z"));
+        fill(size, resume);
+        return resume;
+    }
+
+    public static ResumeRequest request(Size size) {
+        Resume resume = new Resume();
+        fill(size, resume);
+
+        ResumeRequest request = new ResumeRequest();
+        request.setPersonalInfo(resume.getPersonalInfo());
+        request.setExperience(resume.getExperience());
+        request.setEducation(resume.getEducation());
+        request.setProjects(resume.getProjects());
+        request.setSocialLinks(resume.getSocialLinks());
+        request.setCertifications(resume.getCertifications());
+        request.setLanguages(resume.getLanguages());
+        request.setSkills(resume.getSkills());
+        request.setCoverLetter(resume.getCoverLetter());
+        request.setThemeColor(resume.getThemeColor());
+        request.setTemplate(resume.getTemplate());
+        return request;
+    }
+
+    private static void fill(Size size, Resume resume) {
+        Resume.PersonalInfo info = new Resume.PersonalInfo();
+        info.setFullName("Jordan Example");
+        info.setEmail("jordan@example.com");
+        info.setPhone("+1 555 0100");
+        info.setLocation("Berlin, Germany");
+        info.setWebsite("https://example.com");
+        info.setJobTitle("Senior Backend Engineer");
+        info.setSummary(text(size.sentences));
+        resume.setPersonalInfo(info);
+
+        List<Resume.Experience> experience = new ArrayList<>();
+        for (int i = 0; i < size.experience; i++) {
+            Resume.Experience exp = new Resume.Experience();
+            exp.setId("exp-" + i);
+            exp.setCompany("Company " + i);
+            exp.setPosition("Engineer " + i);
+            exp.setStartDate((2000 + i % 20) + "-01");
+            exp.setEndDate((2001 + i % 20) + "-06");
+            exp.setDescription(text(size.sentences));
+            experience.add(exp);
+        }
+        resume.setExperience(experience);
+
+        List<Resume.Education> education = new ArrayList<>();
+        for (int i = 0; i < size.education; i++) {
+            Resume.Education edu = new Resume.Education();
+            edu.setId("edu-" + i);
+            edu.setSchool("University " + i);
+            edu.setDegree("MSc Computer Science");
+            edu.setStartDate("1996-09");
+            edu.setEndDate("2000-06");
+            edu.setDescription(text(Math.max(1, size.sentences / 4)));
+            education.add(edu);
+        }
+        resume.setEducation(education);
+
+        List<Resume.Project> projects = new ArrayList<>();
+        for (int i = 0; i < size.projects; i++) {
+            Resume.Project project = new Resume.Project();
+            project.setId("proj-" + i);
+            project.setName("Project " + i);
+            project.setRole("Lead");
+            project.setLink("https://example.com/p/" + i);
+            project.setDescription(text(Math.max(1, size.sentences / 2)));
+            projects.add(project);
+        }
+        resume.setProjects(projects);
+
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < size.skills; i++) {
+            skills.add("Skill " + i);
+        }
+        resume.setSkills(skills);
+        resume.setCertifications(List.of("AWS Certified Developer", "CKA"));
+        resume.setLanguages(List.of("English", "German"));
+        resume.setSocialLinks(new ArrayList<>());
+        resume.setCoverLetter(text(size.sentences));
+        resume.setThemeColor("#4f46e5");
+        resume.setTemplate("Modern");
+    }
+
+    private static String text(int sentences) {
+        return SENTENCE.repeat(sentences).trim();
+    }
+}
@@ -0,0 +1,60 @@
+package com.resumebuilder.config;
+
+import com.resumebuilder.benchmark.Fixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing and verification, with and without the verified-token cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET =
+            "ThisIsASuperLongAndStrongSecretKeyForResumeStack2026GeneratedToSatisfyThe256BitRequirement";
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = jwtUtil(0);
+        cached = jwtUtil(10_000);
+        token = uncached.generateToken("bench@example.com");
+        cached.isTokenValid(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncached.generateToken("bench@example.com");
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return uncached.isTokenValid(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValidCached() {
+        return cached.isTokenValid(token);
+    }
+
+    private static JwtUtil jwtUtil(int cacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        Fixtures.inject(jwtUtil, "jwtSecret", SECRET);
+        Fixtures.inject(jwtUtil, "jwtExpiration", 86_400_000L);
+        Fixtures.inject(jwtUtil, "cacheTtlMs", 300_000L);
+        Fixtures.inject(jwtUtil, "cacheMaxSize", cacheMaxSize);
+        Fixtures.inject(jwtUtil, "meterRegistry", new SimpleMeterRegistry());
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
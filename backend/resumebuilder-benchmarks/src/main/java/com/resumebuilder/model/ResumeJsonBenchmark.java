@@ -0,0 +1,45 @@
+package com.resumebuilder.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuilder.benchmark.Fixtures;
+import com.resumebuilder.benchmark.SyntheticResumes;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round trip of a resume, as done for every API request and response
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResumeJsonBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private SyntheticResumes.Size size;
+
+    private ObjectMapper objectMapper;
+    private Resume resume;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Fixtures.objectMapper();
+        resume = SyntheticResumes.resume(size);
+        json = objectMapper.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public Resume deserialize() throws IOException {
+        return objectMapper.readValue(json, Resume.class);
+    }
+}
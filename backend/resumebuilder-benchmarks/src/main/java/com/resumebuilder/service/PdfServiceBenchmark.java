@@ -0,0 +1,45 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.benchmark.Fixtures;
+import com.resumebuilder.benchmark.SyntheticResumes;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.pdf.PdfTemplateRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full PDF render per call; the render cache is left disabled
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfServiceBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private SyntheticResumes.Size size;
+
+    private PdfService pdfService;
+    private Resume resume;
+
+    @Setup
+    public void setUp() throws Exception {
+        pdfService = new PdfService();
+        Fixtures.inject(pdfService, "renderCache", new PdfRenderCache());
+        Fixtures.inject(pdfService, "templateRegistry", new PdfTemplateRegistry());
+        // No queueing and no adaptation: the benchmark measures the render alone
+        Fixtures.inject(pdfService, "pdfRenderLimiter", StageLimiter.unlimited("PDF rendering"));
+        Fixtures.inject(pdfService, "meterRegistry", new SimpleMeterRegistry());
+        resume = SyntheticResumes.resume(size);
+    }
+
+    @Benchmark
+    public ByteArrayInputStream generateResumePdf() {
+        return pdfService.generateResumePdf(resume);
+    }
+}
@@ -0,0 +1,37 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.benchmark.SyntheticResumes;
+import com.resumebuilder.dto.ResumeRequest;
+import com.resumebuilder.model.Resume;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copying a create/update request onto a resume document
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResumeMappingBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private SyntheticResumes.Size size;
+
+    private ResumeRequest request;
+
+    @Setup
+    public void setUp() {
+        request = SyntheticResumes.request(size);
+    }
+
+    @Benchmark
+    public Resume mapRequestToResume() {
+        Resume resume = new Resume();
+        ResumeService.mapRequestToResume(request, resume);
+        return resume;
+    }
+}
@@ -0,0 +1,43 @@
+package com.resumebuilder.config;
+
+import com.resumebuilder.service.artifact.ArtifactStore;
+import com.resumebuilder.service.artifact.FilesystemArtifactStore;
+import com.resumebuilder.service.artifact.GridFsArtifactStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Durable store for generated files, picked by artifact.store: "filesystem"
+ * (a local or mounted directory), "gridfs" (Mongo, shared by every instance)
+ * or "none", in which case there is no ArtifactStore bean at all.
+ */
+@Configuration
+public class ArtifactStoreConfig {
+
+    @Value("${artifact.ttl-days:30}")
+    private long ttlDays;
+
+    @Value("${artifact.gc-grace-ms:3600000}")
+    private long gcGraceMs;
+
+    @Bean
+    @ConditionalOnProperty(name = "artifact.store", havingValue = "filesystem")
+    public ArtifactStore filesystemArtifactStore(@Value("${artifact.filesystem.dir:artifacts}") String dir) {
+        return new FilesystemArtifactStore(Paths.get(dir), Duration.ofDays(ttlDays), Duration.ofMillis(gcGraceMs),
+                System::currentTimeMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "artifact.store", havingValue = "gridfs")
+    public ArtifactStore gridFsArtifactStore(GridFsTemplate gridFsTemplate, MongoTemplate mongoTemplate) {
+        return new GridFsArtifactStore(gridFsTemplate, mongoTemplate, Duration.ofDays(ttlDays),
+                Duration.ofMillis(gcGraceMs), System::currentTimeMillis);
+    }
+}
@@ -0,0 +1,171 @@
+package com.resumebuilder.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Background executors and scheduling.
+ *
+ * With spring.threads.virtual.enabled (Java 21+) Tomcat serves requests on
+ * virtual threads, and the executors below switch to virtual threads as well.
+ * Their size limits stay in place as concurrency limits; CPU-heavy work is
+ * additionally capped by the limiters in ConcurrencyConfig.
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig implements WebMvcConfigurer {
+
+    private final boolean virtualThreads;
+
+    @Value("${concurrency.mvc-async.max-threads:200}")
+    private int mvcAsyncMaxThreads;
+
+    public AsyncConfig(Environment environment) {
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Delivers queued emails. The queue dispatcher never hands it more jobs
+     * than it has workers.
+     */
+    @Bean
+    public TaskExecutor mailExecutor(@Value("${mail.queue.workers:4}") int workers) {
+        if (virtualThreads) {
+            return virtualExecutor("mail-", workers);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Shared pool for PDF renders that run off the request thread, such as
+     * bulk exports. When it is saturated the submitting thread renders
+     * itself, which slows that export down instead of queueing without bound.
+     */
+    @Bean
+    public TaskExecutor pdfExecutor(@Value("${pdf.export.workers:0}") int workers) {
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        if (virtualThreads) {
+            return virtualExecutor("pdf-", threads);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 2);
+        executor.setThreadNamePrefix("pdf-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Background renders of saved resumes. PdfPrerenderService never hands it
+     * more renders than it has workers.
+     */
+    @Bean
+    public TaskExecutor pdfPrerenderExecutor(@Value("${pdf.prerender.workers:2}") int workers) {
+        if (virtualThreads) {
+            return virtualExecutor("pdf-prerender-", workers);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("pdf-prerender-");
+        return executor;
+    }
+
+    /**
+     * Writes resume history entries after saves. Always a small platform pool
+     * with a queue, even with virtual threads: saves hand work to it and must
+     * never wait for a slot. ResumeHistoryService queues at most one task per
+     * resume, so the queue holds no more than max-pending tasks.
+     */
+    @Bean
+    public TaskExecutor historyExecutor(@Value("${resume.history.workers:2}") int workers,
+                                        @Value("${resume.history.max-pending:10000}") int maxPending) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(maxPending);
+        executor.setThreadNamePrefix("history-");
+        return executor;
+    }
+
+    /**
+     * BCrypt pool. Always platform threads: hashing is pure CPU, and the pool
+     * size is what keeps it from taking every core. Submissions beyond the
+     * queue are rejected rather than queued.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${auth.password.threads:0}") int threads,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity) {
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bcrypt-");
+        return executor;
+    }
+
+    /**
+     * CPU-bound pool for batch ATS ranking, kept apart from the common pool
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool atsRankingPool(@Value("${ats.ranking.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads);
+    }
+
+    /**
+     * Runs streamed responses (PDF downloads, ZIP exports) after the request
+     * thread returns; one thread per response. Platform threads are capped at
+     * max-threads, and a request thread handing over a response waits for a
+     * free one, like Tomcat's own pool; virtual threads need no cap.
+     */
+    @Bean
+    public AsyncTaskExecutor mvcTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(virtualThreads);
+        if (!virtualThreads) {
+            executor.setConcurrencyLimit(mvcAsyncMaxThreads);
+        }
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcTaskExecutor());
+    }
+
+    /**
+     * New virtual thread per task; submitters block once the limit is reached
+     */
+    private static SimpleAsyncTaskExecutor virtualExecutor(String prefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
@@ -0,0 +1,60 @@
+package com.resumebuilder.config;
+
+import com.resumebuilder.service.StageLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits for CPU-heavy stages, applied in both platform and virtual thread mode.
+ * Password hashing has its own bounded pool (AsyncConfig.passwordHashingExecutor).
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    @Value("${concurrency.acquire-timeout-ms:5000}")
+    private long acquireTimeoutMs;
+
+    @Bean
+    public StageLimiter pdfRenderLimiter(@Value("${concurrency.pdf.permits:0}") int permits,
+                                         @Value("${concurrency.pdf.max-permits:0}") int maxPermits,
+                                         @Value("${concurrency.pdf.queue-size:0}") int queueSize,
+                                         @Value("${concurrency.pdf.queue-timeout-ms:-1}") long queueTimeoutMs,
+                                         @Value("${concurrency.pdf.latency-tolerance:2.0}") double latencyTolerance,
+                                         MeterRegistry meterRegistry) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        StageLimiter limiter = new StageLimiter("PDF rendering",
+                permitsOrCores(permits),
+                maxPermits > 0 ? maxPermits : 2 * cores,
+                queueSize > 0 ? queueSize : 2 * cores,
+                queueTimeoutMs >= 0 ? queueTimeoutMs : acquireTimeoutMs,
+                latencyTolerance);
+        registerMetrics(limiter, "pdf", meterRegistry);
+        return limiter;
+    }
+
+    private static int permitsOrCores(int permits) {
+        return permits > 0 ? permits : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static void registerMetrics(StageLimiter limiter, String stage, MeterRegistry meterRegistry) {
+        Gauge.builder("stage.limit", limiter, StageLimiter::getLimit)
+                .description("Current concurrency limit of the stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+        Gauge.builder("stage.in.flight", limiter, StageLimiter::getInFlight)
+                .tag("stage", stage)
+                .register(meterRegistry);
+        Gauge.builder("stage.queued", limiter, StageLimiter::getQueueLength)
+                .description("Callers waiting for a slot in the stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+        FunctionCounter.builder("stage.rejected", limiter, StageLimiter::getRejected)
+                .description("Callers turned away because the stage was overloaded")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -12,16 +13,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     @Autowired
     private JwtUtil jwtUtil;
 
     @Autowired
-    private com.resumebuilder.repository.UserRepository userRepository;
+    private UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(
@@ -37,23 +38,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                if (jwtUtil.isTokenValid(token)) {
+                // Both lookups are served from memory for tokens and users seen recently
+                String email = jwtUtil.validateAndExtractEmail(token);
 
-                    String email = jwtUtil.extractEmail(token);
-                    
-                    com.resumebuilder.model.User user = userRepository.findByEmail(email).orElse(null);
+                if (email != null) {
 
-                    if (user != null) {
-                        java.util.List<org.springframework.security.core.authority.SimpleGrantedAuthority> authorities = 
-                            user.getRoles().stream()
-                                .map(role -> new org.springframework.security.core.authority.SimpleGrantedAuthority(role))
-                                .collect(java.util.stream.Collectors.toList());
+                    UserPrincipalCache.CachedPrincipal principal = userPrincipalCache.get(email);
 
+                    if (principal != null) {
                         UsernamePasswordAuthenticationToken authentication =
                                 new UsernamePasswordAuthenticationToken(
-                                        user,
+                                        principal.getUser(),
                                         null,
-                                        authorities
+                                        principal.getAuthorities()
                                 );
 
                         authentication.setDetails(
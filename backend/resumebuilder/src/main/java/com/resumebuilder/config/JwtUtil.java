@@ -1,14 +1,22 @@
 package com.resumebuilder.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -19,8 +27,45 @@ public class JwtUtil {
     @Value("${jwt.expiration:86400000}")
     private long jwtExpiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.cache.ttl-ms:300000}")
+    private long cacheTtlMs;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Key and parser are immutable and thread-safe, so build them once
+    private Key signingKey;
+    private JwtParser parser;
+
+    // Tokens whose signature has already been checked, mapped to their subject
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    // Validation time by cache result and outcome
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        cachedTimer = validationTimer("hit", "valid");
+        verifiedTimer = validationTimer("miss", "valid");
+        rejectedTimer = validationTimer("miss", "invalid");
+    }
+
+    private Timer validationTimer(String cache, String outcome) {
+        return Timer.builder("auth.jwt.validation")
+                .description("Time spent validating bearer tokens")
+                .tag("cache", cache)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     public String generateToken(String email) {
@@ -28,7 +73,7 @@ public class JwtUtil {
                 .setSubject(email)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -37,19 +82,65 @@ public class JwtUtil {
     }
 
     public boolean isTokenValid(String token) {
+        return validateAndExtractEmail(token) != null;
+    }
+
+    /**
+     * Verify a token and return its subject, or null if it is invalid.
+     * Verified tokens are cached until they expire (capped at jwt.cache.ttl-ms),
+     * so repeat requests skip signature verification.
+     */
+    public String validateAndExtractEmail(String token) {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached.email;
+            }
+            verifiedTokens.remove(token, cached);
+        }
+
+        Claims claims;
         try {
-            getClaims(token);
-            return true;
+            claims = getClaims(token);
         } catch (Exception e) {
-            return false;
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return null;
+        }
+
+        long expiresAt = now + cacheTtlMs;
+        if (claims.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+        }
+
+        if (verifiedTokens.size() >= cacheMaxSize) {
+            evictExpired(now);
+        }
+        if (verifiedTokens.size() < cacheMaxSize) {
+            verifiedTokens.put(token, new VerifiedToken(claims.getSubject(), expiresAt));
         }
+        verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claims.getSubject();
+    }
+
+    private void evictExpired(long now) {
+        verifiedTokens.values().removeIf(entry -> entry.expiresAt <= now);
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private static final class VerifiedToken {
+        final String email;
+        final long expiresAt;
+
+        VerifiedToken(String email, long expiresAt) {
+            this.email = email;
+            this.expiresAt = expiresAt;
+        }
     }
 }
@@ -0,0 +1,107 @@
+package com.resumebuilder.config;
+
+import com.resumebuilder.model.ArtifactRef;
+import com.resumebuilder.model.MailJob;
+import com.resumebuilder.model.RateLimitBucket;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeVersion;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the indexes declared on selected documents once the app is up.
+ * Automatic index creation stays off so existing collections are not touched
+ * at startup; this runs in the background and only logs on failure.
+ */
+@Component
+public class MongoIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(Resume.class, MailJob.class, ResumeVersion.class,
+            RateLimitBucket.class, ArtifactRef.class);
+
+    private static final String RESUME_SEARCH_INDEX = "resume_search";
+
+    // Searchable resume fields and their weight in the relevance score
+    private static final Document RESUME_SEARCH_WEIGHTS = new Document()
+            .append("title", 3)
+            .append("personalInfo.jobTitle", 5)
+            .append("personalInfo.summary", 2)
+            .append("skills", 5)
+            .append("experience.position", 4)
+            .append("experience.company", 3)
+            .append("experience.description", 1)
+            .append("projects.name", 3)
+            .append("projects.description", 1)
+            .append("certifications", 2);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        Thread thread = new Thread(this::createIndexes, "mongo-index-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void createIndexes() {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+        for (Class<?> type : INDEXED_DOCUMENTS) {
+            try {
+                IndexOperations indexOps = mongoTemplate.indexOps(type);
+                resolver.resolveIndexFor(type).forEach(indexOps::ensureIndex);
+            } catch (Exception e) {
+                logger.warn("Could not create indexes for {}: {}", type.getSimpleName(), e.getMessage());
+            }
+        }
+
+        try {
+            mongoTemplate.indexOps(Resume.class).ensureIndex(resumeSearchIndex());
+        } catch (Exception e) {
+            logger.warn("Could not create the resume search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Text index over the searchable fields, prefixed by userEmail so a search only
+     * reads the index entries of the user's own resumes. Declared here rather than
+     * with @TextIndexed because the annotations can't express the prefix key.
+     */
+    private static IndexDefinition resumeSearchIndex() {
+        Document keys = new Document("userEmail", 1);
+        RESUME_SEARCH_WEIGHTS.keySet().forEach(field -> keys.append(field, "text"));
+
+        Document options = new Document("name", RESUME_SEARCH_INDEX)
+                .append("weights", RESUME_SEARCH_WEIGHTS)
+                .append("default_language", "english")
+                // Resumes have no per-document language field; don't let one be picked up by name
+                .append("language_override", "searchLanguage");
+
+        return new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return keys;
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return options;
+            }
+        };
+    }
+}
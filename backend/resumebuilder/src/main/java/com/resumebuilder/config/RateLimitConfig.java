@@ -0,0 +1,35 @@
+package com.resumebuilder.config;
+
+import com.resumebuilder.service.ratelimit.BucketStore;
+import com.resumebuilder.service.ratelimit.InMemoryBucketStore;
+import com.resumebuilder.service.ratelimit.MongoBucketStore;
+import com.resumebuilder.service.ratelimit.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Token buckets behind RateLimitFilter.
+ *
+ * rate-limit.store picks where buckets live: "memory" (per instance) or
+ * "mongo" (shared, so limits hold across instances). Another backend only
+ * has to implement BucketStore.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public BucketStore rateLimitBucketStore(@Value("${rate-limit.store:memory}") String store,
+                                            MongoTemplate mongoTemplate) {
+        if ("mongo".equalsIgnoreCase(store)) {
+            return new MongoBucketStore(mongoTemplate);
+        }
+        return new InMemoryBucketStore();
+    }
+
+    @Bean
+    public TokenBucketRateLimiter rateLimiter(BucketStore rateLimitBucketStore) {
+        return new TokenBucketRateLimiter(rateLimitBucketStore, System::currentTimeMillis);
+    }
+}
@@ -0,0 +1,186 @@
+package com.resumebuilder.config;
+
+import com.resumebuilder.exception.RateLimitExceededException;
+import com.resumebuilder.service.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Per-client request budgets, one token bucket per route class and client.
+ *
+ * Runs right after JwtAuthFilter, so signed-in users are limited by account
+ * and everyone else by IP. The first matching route class applies; requests
+ * over budget get 429 with Retry-After. Limits are set under rate-limit in
+ * application.yml.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    @Autowired
+    private TokenBucketRateLimiter rateLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Renders the 429 through GlobalExceptionHandler like any other error
+    @Autowired
+    @Qualifier("handlerExceptionResolver")
+    private HandlerExceptionResolver exceptionResolver;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.login.capacity:10}")
+    private long loginCapacity;
+
+    @Value("${rate-limit.login.per-minute:10}")
+    private long loginPerMinute;
+
+    @Value("${rate-limit.pdf.capacity:20}")
+    private long pdfCapacity;
+
+    @Value("${rate-limit.pdf.per-minute:60}")
+    private long pdfPerMinute;
+
+    @Value("${rate-limit.email.capacity:5}")
+    private long emailCapacity;
+
+    @Value("${rate-limit.email.per-minute:10}")
+    private long emailPerMinute;
+
+    @Value("${rate-limit.api.capacity:300}")
+    private long apiCapacity;
+
+    @Value("${rate-limit.api.per-minute:1200}")
+    private long apiPerMinute;
+
+    private List<RouteClass> routes;
+
+    @PostConstruct
+    public void init() {
+        routes = List.of(
+                // Password checks and sign-ups are expensive and the usual brute-force target
+                new RouteClass("login", "POST", List.of("/api/auth/login", "/api/auth/register"),
+                        TokenBucketRateLimiter.Rule.perMinute(loginCapacity, loginPerMinute)),
+                new RouteClass("pdf", null, List.of("/api/pdf/**"),
+                        TokenBucketRateLimiter.Rule.perMinute(pdfCapacity, pdfPerMinute)),
+                new RouteClass("email", "POST", List.of("/api/email/send-resume"),
+                        TokenBucketRateLimiter.Rule.perMinute(emailCapacity, emailPerMinute)),
+                new RouteClass("api", null, List.of("/api/**"),
+                        TokenBucketRateLimiter.Rule.perMinute(apiCapacity, apiPerMinute)));
+
+        for (RouteClass route : routes) {
+            route.rejected = Counter.builder("http.rate.limited")
+                    .description("Requests turned away by the rate limiter")
+                    .tag("route", route.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflights carry no credentials and must not use up the budget
+        return !enabled || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RouteClass route = routeFor(request);
+        if (route != null) {
+            String key = route.name + ":" + clientOf(request);
+            TokenBucketRateLimiter.Decision decision = rateLimiter.tryAcquire(key, route.rule);
+
+            if (!decision.isAllowed()) {
+                route.rejected.increment();
+                long retryAfterSeconds = Math.max(1, (decision.getRetryAfterMs() + 999) / 1000);
+                exceptionResolver.resolveException(request, response, null,
+                        new RateLimitExceededException("Too many requests, try again in " + retryAfterSeconds + "s",
+                                retryAfterSeconds));
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Buckets of clients that went quiet have refilled by now; drop them
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        rateLimiter.evictFull();
+    }
+
+    private RouteClass routeFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RouteClass route : routes) {
+            if (route.matches(request.getMethod(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String clientOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName().toLowerCase();
+        }
+        // Behind a proxy this is the proxy unless server.forward-headers-strategy is set
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static final class RouteClass {
+        final String name;
+        final String method; // null = any method
+        final List<String> patterns;
+        final TokenBucketRateLimiter.Rule rule;
+        Counter rejected;
+
+        RouteClass(String name, String method, List<String> patterns, TokenBucketRateLimiter.Rule rule) {
+            this.name = name;
+            this.method = method;
+            this.patterns = patterns;
+            this.rule = rule;
+        }
+
+        boolean matches(String requestMethod, String path) {
+            if (method != null && !method.equals(requestMethod)) {
+                return false;
+            }
+            for (String pattern : patterns) {
+                if (PATHS.match(pattern, path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.resumebuilder.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -8,13 +11,25 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
 
     @Autowired
     private JwtAuthFilter jwtAuthFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    // Same as server.port unless MANAGEMENT_PORT moves actuator to a port that is not published
+    @Value("${management.server.port:${server.port:8080}}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -25,7 +40,7 @@ public class SecurityConfig {
                 config.setAllowedOriginPatterns(java.util.List.of("*"));
                 config.setAllowedMethods(java.util.List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
                 config.setAllowedHeaders(java.util.List.of("*"));
-                config.setExposedHeaders(java.util.List.of("Authorization", "Content-Type", "Accept"));
+                config.setExposedHeaders(java.util.List.of("Authorization", "Content-Type", "Accept", "Retry-After"));
                 config.setAllowCredentials(true);
                 return config;
             }))
@@ -36,6 +51,9 @@ public class SecurityConfig {
                 (request, response, authException) -> response.sendError(401, "Unauthorized: " + authException.getMessage())
             ))
             .authorizeHttpRequests(auth -> auth
+                // Streamed responses finish on an async dispatch, which has no JWT context of its own
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers(onManagementPort()).permitAll()
                 .requestMatchers(
                         "/api/auth/login",
                         "/api/auth/register",
@@ -43,11 +61,21 @@ public class SecurityConfig {
                         "/v3/api-docs/**", // Swagger
                         "/swagger-ui/**"
                 ).permitAll()
-                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                // Metrics reveal traffic and internals; on the public port only admins may scrape them
+                .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            // After authentication, so signed-in users are limited per account
+            .addFilterAfter(rateLimitFilter, JwtAuthFilter.class);
 
         return http.build();
     }
+
+    /**
+     * Requests to a dedicated management port, reachable only by the scraper
+     */
+    private RequestMatcher onManagementPort() {
+        return request -> managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
 }
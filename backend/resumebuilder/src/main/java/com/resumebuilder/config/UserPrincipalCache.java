@@ -0,0 +1,91 @@
+package com.resumebuilder.config;
+
+import com.resumebuilder.model.User;
+import com.resumebuilder.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Short-lived cache of authenticated users and their authorities, so the
+ * JWT filter does not hit Mongo on every request. Writes made through
+ * AuthService call invalidate. Roles have no endpoint and are only changed
+ * in the database directly; such a change, like any other made outside the
+ * app, takes effect once the entry expires, within ttl-ms.
+ */
+@Component
+public class UserPrincipalCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${auth.principal-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${auth.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+
+    /**
+     * Get the user for an email, loading it from Mongo on a miss.
+     * Returns null if no such user exists.
+     */
+    public CachedPrincipal get(String email) {
+        long now = System.currentTimeMillis();
+
+        CachedPrincipal cached = principals.get(email);
+        if (cached != null && cached.expiresAt > now) {
+            return cached;
+        }
+
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null) {
+            principals.remove(email);
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = user.getRoles() == null ? List.of() :
+                user.getRoles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toUnmodifiableList());
+
+        CachedPrincipal loaded = new CachedPrincipal(user, authorities, now + ttlMs);
+        if (principals.size() >= maxSize) {
+            principals.values().removeIf(entry -> entry.expiresAt <= now);
+        }
+        if (principals.size() < maxSize) {
+            principals.put(email, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate(String email) {
+        principals.remove(email);
+    }
+
+    public void invalidateAll() {
+        principals.clear();
+    }
+
+    public static final class CachedPrincipal {
+        private final User user;
+        private final List<SimpleGrantedAuthority> authorities;
+        private final long expiresAt;
+
+        CachedPrincipal(User user, List<SimpleGrantedAuthority> authorities, long expiresAt) {
+            this.user = user;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+
+        public User getUser() { return user; }
+        public List<SimpleGrantedAuthority> getAuthorities() { return authorities; }
+    }
+}
@@ -0,0 +1,27 @@
+package com.resumebuilder.controller;
+
+import com.resumebuilder.dto.AtsRankRequest;
+import com.resumebuilder.service.ats.AtsRankingService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Deployment-wide endpoints; SecurityConfig restricts /api/admin/** to ROLE_ADMIN
+ */
+@RestController
+@RequestMapping("/api/admin")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdminController {
+
+    @Autowired
+    private AtsRankingService atsRankingService;
+
+    // Rank all stored resumes against one job description
+    @PostMapping("/ats/rank")
+    public ResponseEntity<?> rankResumes(@Valid @RequestBody AtsRankRequest request) {
+        return ResponseEntity.ok(atsRankingService.rank(request.getJobDescription(), request.getTopK()));
+    }
+}
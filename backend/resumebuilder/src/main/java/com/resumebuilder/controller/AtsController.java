@@ -0,0 +1,40 @@
+package com.resumebuilder.controller;
+
+import com.resumebuilder.dto.AtsScoreRequest;
+import com.resumebuilder.service.ats.AtsService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ats")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AtsController {
+
+    @Autowired
+    private AtsService atsService;
+
+    // Score a saved resume against a job description
+    @PostMapping("/resumes/{id}/score")
+    public ResponseEntity<?> scoreResume(
+            @PathVariable String id,
+            @Valid @RequestBody AtsScoreRequest request,
+            Authentication authentication
+    ) {
+        try {
+            String email = authentication.getName();
+            return ResponseEntity.ok(atsService.scoreResume(id, request.getJobDescription(), email));
+        } catch (RuntimeException e) {
+            if (e.getMessage().contains("Unauthorized")) {
+                return ResponseEntity.status(403).body(e.getMessage());
+            }
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.status(404).body(e.getMessage());
+            }
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -2,10 +2,12 @@ package com.resumebuilder.controller;
 
 import com.resumebuilder.dto.LoginRequest;
 import com.resumebuilder.dto.RegisterRequest;
+import com.resumebuilder.exception.ServiceOverloadedException;
 import com.resumebuilder.model.User;
 import com.resumebuilder.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +17,7 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AuthController {
 
     @Autowired
@@ -26,6 +29,8 @@ public class AuthController {
         try {
             User user = authService.register(request);
             return ResponseEntity.ok(user);
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (RuntimeException e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("message", e.getMessage());
@@ -41,6 +46,8 @@ public class AuthController {
             Map<String, String> response = new HashMap<>();
             response.put("token", token);
             return ResponseEntity.ok(response);
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (RuntimeException e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("message", e.getMessage());
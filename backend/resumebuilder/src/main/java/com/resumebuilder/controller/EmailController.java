@@ -1,38 +1,33 @@
 package com.resumebuilder.controller;
 
-import com.resumebuilder.dto.EmailRequest;
+import com.resumebuilder.model.MailJob;
 import com.resumebuilder.model.Resume;
-import com.resumebuilder.service.EmailService;
-import com.resumebuilder.service.PdfService;
+import com.resumebuilder.service.MailQueueService;
 import com.resumebuilder.service.ResumeService;
-import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/email")
 @CrossOrigin(origins = "*")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmailController {
 
     @Autowired
-    private EmailService emailService;
+    private MailQueueService mailQueueService;
 
     @Autowired
     private ResumeService resumeService;
 
-    @Autowired
-    private PdfService pdfService;
-
     /**
-     * Send resume as PDF attachment via email
+     * Queue resume as PDF attachment for delivery via email
      */
     @PostMapping("/send-resume")
     public ResponseEntity<?> sendResumeEmail(
@@ -50,45 +45,41 @@ public class EmailController {
             return ResponseEntity.status(403).body("Unauthorized");
         }
 
-        try {
-            // Generate PDF
-            ByteArrayInputStream pdfStream = pdfService.generateResumePdf(resume);
-            byte[] pdfBytes = readAllBytes(pdfStream);
-
-            // Prepare email
-            String subject = "Resume: " + resume.getTitle();
-            String body = "<p>Hello,</p>" +
-                    "<p>Please find attached my resume.</p>" +
-                    "<p>Best regards,<br/>" + resume.getFullName() + "</p>";
-
-            // Send email with PDF attachment
-            emailService.sendResumeEmail(
-                    recipientEmail,
-                    subject,
-                    body,
-                    pdfBytes,
-                    "resume.pdf"
-            );
-
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "Resume sent successfully to " + recipientEmail);
-            return ResponseEntity.ok(response);
+        // Rendering and SMTP delivery happen on the mail workers
+        MailJob job = mailQueueService.enqueueResumeEmail(resume, recipientEmail, userEmail);
 
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to prepare email: " + e.getMessage());
-        }
+        Map<String, String> response = new HashMap<>();
+        response.put("jobId", job.getId());
+        response.put("status", job.getStatus());
+        response.put("message", "Resume queued for delivery to " + recipientEmail);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 
     /**
-     * Utility method to read all bytes from ByteArrayInputStream
+     * Get delivery status of a queued email
      */
-    private byte[] readAllBytes(ByteArrayInputStream stream) throws IOException {
-        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-        int nRead;
-        byte[] data = new byte[16384];
-        while ((nRead = stream.read(data, 0, data.length)) != -1) {
-            buffer.write(data, 0, nRead);
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getJobStatus(
+            @PathVariable String jobId,
+            Authentication authentication
+    ) {
+        try {
+            MailJob job = mailQueueService.getJob(jobId, authentication.getName());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("jobId", job.getId());
+            response.put("status", job.getStatus());
+            response.put("recipient", job.getRecipient());
+            response.put("attempts", job.getAttempts());
+            response.put("nextAttemptAt", job.getNextAttemptAt());
+            response.put("sentAt", job.getSentAt());
+            response.put("lastError", job.getLastError());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            if (e.getMessage().contains("Unauthorized")) {
+                return ResponseEntity.status(403).body(e.getMessage());
+            }
+            return ResponseEntity.status(404).body(e.getMessage());
         }
-        return buffer.toByteArray();
     }
 }
@@ -1,51 +1,169 @@
 package com.resumebuilder.controller;
 
+import com.resumebuilder.dto.PdfExportRequest;
 import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.PdfExportService;
+import com.resumebuilder.service.PdfRenderCache;
 import com.resumebuilder.service.PdfService;
 import com.resumebuilder.service.ResumeService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/pdf")
 @CrossOrigin(origins = "*")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PdfController {
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private ResumeService resumeService;
 
     @Autowired
     private PdfService pdfService;
 
+    @Autowired
+    private PdfExportService pdfExportService;
+
     @GetMapping("/resume/{id}")
-    public ResponseEntity<InputStreamResource> downloadResumePdf(
+    public ResponseEntity<StreamingResponseBody> downloadResumePdf(
             @PathVariable String id,
-            Authentication authentication
+            Authentication authentication,
+            WebRequest webRequest
     ) {
         String userEmail = authentication.getName();
         
-        Resume resume = resumeService.getResumeById(id);
+        Resume revision = resumeService.getResumeRevision(id);
         
         // Verify the resume belongs to the authenticated user
-        if (!resume.getUserEmail().equals(userEmail)) {
+        if (!revision.getUserEmail().equals(userEmail)) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
-        
-        ByteArrayInputStream pdf = pdfService.generateResumePdf(resume);
+
+        // Answered from the revision alone: a 304 never loads the content or renders.
+        // Also sets the ETag and Last-Modified headers on the response either way.
+        long lastModified = revision.getUpdatedAt() == null ? -1 : revision.getUpdatedAt().toEpochMilli();
+        if (webRequest.checkNotModified(pdfETag(revision), lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        Resume resume = resumeService.getResumeById(id);
+
+        // Render (or find the cached copy) now, so an overloaded renderer answers
+        // 503 with Retry-After instead of failing a response that has already started
+        PdfService.PdfDownload download = pdfService.admitResumePdf(resume);
 
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-Disposition", "attachment; filename=resume.pdf");
 
-        return ResponseEntity.ok()
+        // The size is always known, so resumed and partial downloads work
+        long length = download.getContentLength();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        HttpRange range;
+        try {
+            range = singleRange(webRequest, length);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                    .build();
+        }
+
+        if (range == null) {
+            StreamingResponseBody body = download::writeTo;
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .cacheControl(REVALIDATE)
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .contentLength(length)
+                    .body(body);
+        }
+
+        long start = range.getRangeStart(length);
+        long count = range.getRangeEnd(length) - start + 1;
+        StreamingResponseBody body = out -> download.writeTo(out, start, count);
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + count - 1) + "/" + length);
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
                 .headers(headers)
+                .cacheControl(REVALIDATE)
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(new InputStreamResource(pdf));
+                .contentLength(count)
+                .body(body);
+    }
+
+    /**
+     * The requested byte range, or null for the whole document. Only single
+     * ranges are served; multipart ranges, and any If-Range (which can never
+     * match our weak ETag), get the whole document, as RFC 9110 allows.
+     * Throws IllegalArgumentException for a range that cannot be satisfied.
+     */
+    private static HttpRange singleRange(WebRequest webRequest, long length) {
+        String header = webRequest.getHeader(HttpHeaders.RANGE);
+        if (header == null || webRequest.getHeader(HttpHeaders.IF_RANGE) != null) {
+            return null;
+        }
+        List<HttpRange> ranges = HttpRange.parseRanges(header);
+        if (ranges.size() != 1) {
+            return null;
+        }
+        HttpRange range = ranges.get(0);
+        if (range.getRangeStart(length) >= length) {
+            throw new IllegalArgumentException("Range starts past the end of the document");
+        }
+        return range;
+    }
+
+    /**
+     * Weak, because iText stamps each render with its own timestamps and file id:
+     * two renders of one revision look the same but are not byte-identical.
+     * Keyed on the same revision as PdfRenderCache.
+     */
+    private static String pdfETag(Resume resume) {
+        String revision = PdfRenderCache.revisionOf(resume);
+        return "W/\"" + (revision == null ? "v" + resume.getVersion() : revision) + "\"";
+    }
+
+    // Download several resumes (or all of mine) as one ZIP archive
+    @PostMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportResumes(
+            @RequestBody(required = false) PdfExportRequest request,
+            Authentication authentication
+    ) {
+        String userEmail = authentication.getName();
+
+        // Declared as a streaming body, so a rejected export is reported through the exception handler
+        List<PdfExportService.ExportItem> items;
+        try {
+            items = pdfExportService.resolve(request == null ? null : request.getResumeIds(), userEmail);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        // Entries are written as each render finishes; the archive is never held in memory
+        StreamingResponseBody body = out -> pdfExportService.writeZip(items, out);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-Disposition", "attachment; filename=resumes.zip");
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
     }
 }
@@ -2,22 +2,42 @@ package com.resumebuilder.controller;
 
 import com.resumebuilder.dto.ResumeRequest;
 import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.ResumePatchService;
 import com.resumebuilder.service.ResumeService;
+import com.resumebuilder.service.importer.ResumeImportService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/resumes")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ResumeController {
 
+    // Private to the signed-in user, and always revalidated so edits show up at once
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private ResumeService resumeService;
 
+    @Autowired
+    private ResumePatchService resumePatchService;
+
+    @Autowired
+    private ResumeImportService resumeImportService;
+
     // Create Resume
     @PostMapping
     public ResponseEntity<?> createResume(
@@ -33,46 +53,103 @@ public class ResumeController {
         }
     }
 
-    // Get My Resumes
+    // Import a PDF or DOCX resume; returns the parsed fields without saving them
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importResume(@RequestParam("file") MultipartFile file) {
+        try {
+            return ResponseEntity.ok(resumeImportService.importResume(file));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Get My Resumes (304 when nothing changed since the client's copy)
     @GetMapping
-    public ResponseEntity<?> getMyResumes(Authentication authentication) {
+    public ResponseEntity<?> getMyResumes(Authentication authentication, WebRequest webRequest) {
         try {
             String email = authentication.getName();
+            String etag = "\"" + resumeService.getMyResumesFingerprint(email) + "\"";
+            // Sets the ETag header on the response either way
+            if (webRequest.checkNotModified(etag)) {
+                return notModified();
+            }
             List<Resume> resumes = resumeService.getMyResumes(email);
-            return ResponseEntity.ok(resumes);
+            return ResponseEntity.ok()
+                    .cacheControl(REVALIDATE)
+                    .body(resumes);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body("Error fetching resumes: " + e.getMessage());
         }
     }
 
-    // Get Resume by ID
+    // Get My Resume Summaries (paged, no section content)
+    @GetMapping("/summary")
+    public ResponseEntity<?> getMyResumeSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication
+    ) {
+        try {
+            String email = authentication.getName();
+            int pageSize = Math.max(1, Math.min(limit, 100));
+            return ResponseEntity.ok(resumeService.getMyResumeSummaries(email, cursor, pageSize));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Search My Resumes (ranked by relevance, paged)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchMyResumes(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication
+    ) {
+        try {
+            String email = authentication.getName();
+            int pageSize = Math.max(1, Math.min(size, 100));
+            return ResponseEntity.ok(resumeService.searchMyResumes(email, q, Math.max(0, page), pageSize));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Get Resume by ID; ETag is the version, checked before the content is loaded
     @GetMapping("/{id}")
-    public ResponseEntity<?> getResume(@PathVariable String id) {
+    public ResponseEntity<?> getResume(@PathVariable String id, WebRequest webRequest) {
         try {
-            return ResponseEntity.ok(resumeService.getResumeById(id));
+            String etag = versionETag(resumeService.getResumeRevision(id));
+            if (webRequest.checkNotModified(etag)) {
+                return notModified();
+            }
+            // A write landing in between only makes the body newer than its ETag,
+            // which costs the client one extra full response, never a stale one
+            return ResponseEntity.ok()
+                    .cacheControl(REVALIDATE)
+                    .body(resumeService.getResumeById(id));
         } catch (RuntimeException e) {
             return ResponseEntity.status(404).body(e.getMessage());
         }
     }
 
-    // Update Resume
+    // Update Resume; send If-Match with the last seen ETag to get 412 instead of overwriting
     @PutMapping("/{id}")
     public ResponseEntity<?> updateResume(
             @PathVariable String id,
             @Valid @RequestBody ResumeRequest request,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
             Authentication authentication
     ) {
         try {
             String email = authentication.getName();
-            return ResponseEntity.ok(resumeService.updateResume(id, request, email));
+            Long expectedVersion = ResumePatchService.parseVersion(ifMatch);
+            Resume updated = resumeService.updateResume(id, request, email, expectedVersion);
+            return ResponseEntity.ok()
+                    .eTag(versionETag(updated))
+                    .body(updated);
         } catch (RuntimeException e) {
-            if (e.getMessage().contains("Unauthorized")) {
-                return ResponseEntity.status(403).body(e.getMessage());
-            }
-            if (e.getMessage().contains("not found")) {
-                return ResponseEntity.status(404).body(e.getMessage());
-            }
-            return ResponseEntity.badRequest().body(e.getMessage());
+            return patchError(e);
         }
     }
 
@@ -96,4 +173,157 @@ public class ResumeController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // Partial Update (JSON Merge Patch)
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", "application/json"})
+    public ResponseEntity<?> patchResume(
+            @PathVariable String id,
+            @RequestBody Map<String, Object> patch,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            Authentication authentication
+    ) {
+        try {
+            Long expectedVersion = ResumePatchService.parseVersion(ifMatch);
+            return patchResponse(resumePatchService.mergePatch(id, patch, expectedVersion, authentication.getName()));
+        } catch (RuntimeException e) {
+            return patchError(e);
+        }
+    }
+
+    // Partial Update of one section entry (e.g. a single experience item)
+    @PatchMapping(value = "/{id}/{section}/{entryId}", consumes = {"application/merge-patch+json", "application/json"})
+    public ResponseEntity<?> patchEntry(
+            @PathVariable String id,
+            @PathVariable String section,
+            @PathVariable String entryId,
+            @RequestBody Map<String, Object> patch,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            Authentication authentication
+    ) {
+        try {
+            Long expectedVersion = ResumePatchService.parseVersion(ifMatch);
+            return patchResponse(resumePatchService.patchEntry(id, section, entryId, patch, expectedVersion, authentication.getName()));
+        } catch (RuntimeException e) {
+            return patchError(e);
+        }
+    }
+
+    // Append a section entry
+    @PostMapping("/{id}/{section}")
+    public ResponseEntity<?> addEntry(
+            @PathVariable String id,
+            @PathVariable String section,
+            @RequestBody Object entry,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            Authentication authentication
+    ) {
+        try {
+            Long expectedVersion = ResumePatchService.parseVersion(ifMatch);
+            return patchResponse(resumePatchService.addEntry(id, section, entry, expectedVersion, authentication.getName()));
+        } catch (RuntimeException e) {
+            return patchError(e);
+        }
+    }
+
+    // Remove a section entry
+    @DeleteMapping("/{id}/{section}/{entryId}")
+    public ResponseEntity<?> removeEntry(
+            @PathVariable String id,
+            @PathVariable String section,
+            @PathVariable String entryId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            Authentication authentication
+    ) {
+        try {
+            Long expectedVersion = ResumePatchService.parseVersion(ifMatch);
+            return patchResponse(resumePatchService.removeEntry(id, section, entryId, expectedVersion, authentication.getName()));
+        } catch (RuntimeException e) {
+            return patchError(e);
+        }
+    }
+
+    // Version history, newest first; pass before= the last version seen to page back
+    @GetMapping("/{id}/versions")
+    public ResponseEntity<?> getResumeVersions(
+            @PathVariable String id,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication
+    ) {
+        try {
+            int pageSize = Math.max(1, Math.min(limit, 200));
+            return ResponseEntity.ok(resumeService.getResumeVersions(id, authentication.getName(), before, pageSize));
+        } catch (RuntimeException e) {
+            return patchError(e);
+        }
+    }
+
+    // Resume content at a past version
+    @GetMapping("/{id}/versions/{version}")
+    public ResponseEntity<?> getResumeVersion(
+            @PathVariable String id,
+            @PathVariable long version,
+            Authentication authentication
+    ) {
+        try {
+            return ResponseEntity.ok(resumeService.getResumeVersion(id, version, authentication.getName()));
+        } catch (RuntimeException e) {
+            return patchError(e);
+        }
+    }
+
+    // Roll back to a past version
+    @PostMapping("/{id}/versions/{version}/restore")
+    public ResponseEntity<?> restoreResumeVersion(
+            @PathVariable String id,
+            @PathVariable long version,
+            Authentication authentication
+    ) {
+        try {
+            return ResponseEntity.ok(resumeService.restoreResumeVersion(id, version, authentication.getName()));
+        } catch (RuntimeException e) {
+            return patchError(e);
+        }
+    }
+
+    /**
+     * Partial updates answer with the new version only, not the whole resume
+     */
+    private ResponseEntity<?> patchResponse(Resume updated) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", updated.getId());
+        response.put("version", updated.getVersion());
+        response.put("updatedAt", updated.getUpdatedAt());
+
+        return ResponseEntity.ok()
+                .eTag(versionETag(updated))
+                .body(response);
+    }
+
+    // Every write bumps the version, so it is a strong validator for the resume JSON
+    private static String versionETag(Resume resume) {
+        return "\"" + resume.getVersion() + "\"";
+    }
+
+    private static ResponseEntity<?> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(REVALIDATE)
+                .build();
+    }
+
+    private ResponseEntity<?> patchError(RuntimeException e) {
+        if (e.getMessage().contains("Unauthorized")) {
+            return ResponseEntity.status(403).body(e.getMessage());
+        }
+        if (e.getMessage().contains("not found")) {
+            return ResponseEntity.status(404).body(e.getMessage());
+        }
+        if (e.getMessage().contains("Precondition failed")) {
+            return ResponseEntity.status(412).body(e.getMessage());
+        }
+        if (e.getMessage().startsWith("Conflict")) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        }
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
 }
@@ -0,0 +1,24 @@
+package com.resumebuilder.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class AtsRankRequest {
+
+    @NotBlank(message = "Job description is required")
+    @Size(max = 50000, message = "Job description is too long")
+    private String jobDescription;
+
+    @Min(value = 1, message = "topK must be at least 1")
+    @Max(value = 500, message = "topK must be at most 500")
+    private int topK = 50;
+
+    // Getters and Setters
+    public String getJobDescription() { return jobDescription; }
+    public void setJobDescription(String jobDescription) { this.jobDescription = jobDescription; }
+
+    public int getTopK() { return topK; }
+    public void setTopK(int topK) { this.topK = topK; }
+}
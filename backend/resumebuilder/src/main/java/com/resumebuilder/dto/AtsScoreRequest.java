@@ -0,0 +1,15 @@
+package com.resumebuilder.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class AtsScoreRequest {
+
+    @NotBlank(message = "Job description is required")
+    @Size(max = 50000, message = "Job description is too long")
+    private String jobDescription;
+
+    // Getters and Setters
+    public String getJobDescription() { return jobDescription; }
+    public void setJobDescription(String jobDescription) { this.jobDescription = jobDescription; }
+}
@@ -0,0 +1,13 @@
+package com.resumebuilder.dto;
+
+import java.util.List;
+
+public class PdfExportRequest {
+
+    // Resumes to export; empty or missing means all of the user's resumes
+    private List<String> resumeIds;
+
+    // Getters and Setters
+    public List<String> getResumeIds() { return resumeIds; }
+    public void setResumeIds(List<String> resumeIds) { this.resumeIds = resumeIds; }
+}
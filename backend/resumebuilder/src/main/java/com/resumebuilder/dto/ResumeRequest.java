@@ -18,6 +18,7 @@ public class ResumeRequest {
     private List<String> skills;
     private String coverLetter;
     private String themeColor;
+    private String template;
 
     // Getters and Setters
     public Resume.PersonalInfo getPersonalInfo() { return personalInfo; }
@@ -49,4 +50,7 @@ public class ResumeRequest {
 
     public String getThemeColor() { return themeColor; }
     public void setThemeColor(String themeColor) { this.themeColor = themeColor; }
+
+    public String getTemplate() { return template; }
+    public void setTemplate(String template) { this.template = template; }
 }
@@ -0,0 +1,16 @@
+package com.resumebuilder.dto;
+
+import org.springframework.data.mongodb.core.mapping.TextScore;
+
+/**
+ * A resume summary matched by a search, with its text relevance score
+ */
+public class ResumeSearchHit extends ResumeSummary {
+
+    @TextScore
+    private Float score;
+
+    // Getters and Setters
+    public Float getScore() { return score; }
+    public void setScore(Float score) { this.score = score; }
+}
@@ -0,0 +1,34 @@
+package com.resumebuilder.dto;
+
+import java.util.List;
+
+/**
+ * One page of search hits, best match first. hasMore is false on the last page.
+ */
+public class ResumeSearchPage {
+
+    private List<ResumeSearchHit> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+
+    public ResumeSearchPage(List<ResumeSearchHit> items, int page, int size, boolean hasMore) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<ResumeSearchHit> getItems() { return items; }
+    public void setItems(List<ResumeSearchHit> items) { this.items = items; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -0,0 +1,35 @@
+package com.resumebuilder.dto;
+
+import java.time.Instant;
+
+/**
+ * Dashboard view of a resume, without any section content
+ */
+public class ResumeSummary {
+
+    private String id;
+    private String title;
+    private Instant updatedAt;
+    private Double atsScore;
+    private String status;
+    private long version;
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public Double getAtsScore() { return atsScore; }
+    public void setAtsScore(Double atsScore) { this.atsScore = atsScore; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+}
@@ -0,0 +1,24 @@
+package com.resumebuilder.dto;
+
+import java.util.List;
+
+/**
+ * One page of resume summaries. nextCursor is null on the last page.
+ */
+public class ResumeSummaryPage {
+
+    private List<ResumeSummary> items;
+    private String nextCursor;
+
+    public ResumeSummaryPage(List<ResumeSummary> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<ResumeSummary> getItems() { return items; }
+    public void setItems(List<ResumeSummary> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,31 @@
+package com.resumebuilder.dto;
+
+import java.time.Instant;
+
+/**
+ * A resume history entry, without its content
+ */
+public class ResumeVersionInfo {
+
+    private long version;
+    private boolean checkpoint;
+    private int size;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    // Getters and Setters
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public boolean isCheckpoint() { return checkpoint; }
+    public void setCheckpoint(boolean checkpoint) { this.checkpoint = checkpoint; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
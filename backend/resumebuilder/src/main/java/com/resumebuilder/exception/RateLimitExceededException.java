@@ -0,0 +1,12 @@
+package com.resumebuilder.exception;
+
+/**
+ * Thrown when a client has used up its request budget for a route class.
+ * Mapped to 429 with a Retry-After header by GlobalExceptionHandler.
+ */
+public class RateLimitExceededException extends ServiceOverloadedException {
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,19 @@
+package com.resumebuilder.exception;
+
+/**
+ * Thrown when a request cannot get capacity in time and should be retried
+ * later. Mapped to 503 with a Retry-After header by GlobalExceptionHandler.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
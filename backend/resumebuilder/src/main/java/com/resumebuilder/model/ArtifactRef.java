@@ -0,0 +1,53 @@
+package com.resumebuilder.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A named pointer to content in GridFS (artifact.store: gridfs)
+ */
+@Document(collection = "artifacts")
+public class ArtifactRef {
+
+    @Id
+    private String id; // Artifact name, e.g. "resume-pdf/<resume id>"
+
+    private String version;
+
+    @Indexed
+    private String hash; // SHA-256 of the content, and the GridFS filename holding it
+
+    private long length;
+
+    private String contentType;
+
+    private Instant createdAt;
+
+    @Indexed(name = "expiresAt", expireAfterSeconds = 0)
+    private Instant expiresAt;
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+
+    public long getLength() { return length; }
+    public void setLength(long length) { this.length = length; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
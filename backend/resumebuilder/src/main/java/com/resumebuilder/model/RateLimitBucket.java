@@ -0,0 +1,41 @@
+package com.resumebuilder.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A rate limit bucket shared between instances (rate-limit.store: mongo)
+ */
+@Document(collection = "rate_limit_buckets")
+public class RateLimitBucket {
+
+    @Id
+    private String id; // Route class and client, e.g. "pdf:user:jane@example.com"
+
+    private long fullAt; // Epoch millis at which the bucket has all its tokens again
+
+    @Indexed(name = "expireAt", expireAfterSeconds = 0)
+    private Instant expireAt; // Same time as fullAt; a full bucket needs no document
+
+    public RateLimitBucket() {
+    }
+
+    public RateLimitBucket(String id, long fullAt) {
+        this.id = id;
+        this.fullAt = fullAt;
+        this.expireAt = Instant.ofEpochMilli(fullAt);
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public long getFullAt() { return fullAt; }
+    public void setFullAt(long fullAt) { this.fullAt = fullAt; }
+
+    public Instant getExpireAt() { return expireAt; }
+    public void setExpireAt(Instant expireAt) { this.expireAt = expireAt; }
+}
@@ -6,12 +6,14 @@ import lombok.Data; // Keeping import but not relying on it if possible, actuall
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 import java.util.List;
 
 @Document(collection = "resumes")
+@CompoundIndex(name = "userEmail_updatedAt", def = "{'userEmail': 1, 'updatedAt': -1, '_id': -1}")
 public class Resume {
 
     @Id
@@ -31,12 +33,15 @@ public class Resume {
     private List<String> skills;
     private String coverLetter;
     private String themeColor;
+    private String template;
 
     // ATS & AI Integration
     private Double atsScore;
     private String atsFeedback;
     private String status; // DRAFT, PUBLISHED
 
+    private long version; // Bumped on every update, used for optimistic concurrency
+
     @CreatedDate
     private Instant createdAt;
 
@@ -86,6 +91,9 @@ public class Resume {
     public String getThemeColor() { return themeColor; }
     public void setThemeColor(String themeColor) { this.themeColor = themeColor; }
 
+    public String getTemplate() { return template; }
+    public void setTemplate(String template) { this.template = template; }
+
     public Double getAtsScore() { return atsScore; }
     public void setAtsScore(Double atsScore) { this.atsScore = atsScore; }
 
@@ -95,6 +103,9 @@ public class Resume {
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
 
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
 
@@ -0,0 +1,73 @@
+package com.resumebuilder.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One saved state in a resume's history. A checkpoint holds the full resume
+ * content; any other entry holds only the changes since the entry before it
+ * (the one at baseVersion).
+ */
+@Document(collection = "resume_versions")
+@CompoundIndexes({
+        @CompoundIndex(name = "resumeId_version", def = "{'resumeId': 1, 'version': -1}", unique = true),
+        // One successor per entry keeps the chain linear when two saves race
+        @CompoundIndex(name = "resumeId_baseVersion", def = "{'resumeId': 1, 'baseVersion': 1}", unique = true)
+})
+public class ResumeVersion {
+
+    @Id
+    private String id;
+    private String resumeId;
+    private String userEmail;
+
+    private long version; // Resume version this entry rebuilds to
+    private Long baseVersion; // Previous entry's version, null for the first entry
+    private boolean checkpoint;
+    private org.bson.Document content; // Full content for checkpoints, otherwise a delta
+    private int size; // Approximate stored size of content, in characters
+    private boolean mergeTarget; // Later saves within the merge window are folded into this entry
+
+    @Indexed(name = "createdAt")
+    private Instant createdAt;
+    private Instant updatedAt; // Moves when later saves are merged into this entry
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getResumeId() { return resumeId; }
+    public void setResumeId(String resumeId) { this.resumeId = resumeId; }
+
+    public String getUserEmail() { return userEmail; }
+    public void setUserEmail(String userEmail) { this.userEmail = userEmail; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public Long getBaseVersion() { return baseVersion; }
+    public void setBaseVersion(Long baseVersion) { this.baseVersion = baseVersion; }
+
+    public boolean isCheckpoint() { return checkpoint; }
+    public void setCheckpoint(boolean checkpoint) { this.checkpoint = checkpoint; }
+
+    public org.bson.Document getContent() { return content; }
+    public void setContent(org.bson.Document content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isMergeTarget() { return mergeTarget; }
+    public void setMergeTarget(boolean mergeTarget) { this.mergeTarget = mergeTarget; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
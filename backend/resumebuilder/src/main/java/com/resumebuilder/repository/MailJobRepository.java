@@ -0,0 +1,7 @@
+package com.resumebuilder.repository;
+
+import com.resumebuilder.model.MailJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface MailJobRepository extends MongoRepository<MailJob, String> {
+}
@@ -1,12 +1,16 @@
 package com.resumebuilder.service;
 
 import com.resumebuilder.config.JwtUtil;
+import com.resumebuilder.config.UserPrincipalCache;
 import com.resumebuilder.dto.LoginRequest;
 import com.resumebuilder.dto.RegisterRequest;
 import com.resumebuilder.model.User;
 import com.resumebuilder.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -20,7 +24,14 @@ public class AuthService {
     @Autowired
     private JwtUtil jwtUtil;
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
 
     // Register User
     public User register(RegisterRequest request) {
@@ -33,11 +44,13 @@ public class AuthService {
         User user = new User();
         user.setName(request.getFullName());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
         user.setRoles(java.util.List.of("ROLE_USER"));
         user.setProvider("local");
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userPrincipalCache.invalidate(saved.getEmail());
+        return saved;
     }
 
     // Process OAuth Login
@@ -51,6 +64,7 @@ public class AuthService {
                 user.setProvider(provider);
                 user.setProviderId(providerId);
                 userRepository.save(user);
+                userPrincipalCache.invalidate(email);
             }
         } else {
             // New user via OAuth
@@ -62,6 +76,7 @@ public class AuthService {
             user.setProviderId(providerId);
             user.setPassword(""); // No password for OAuth users
             userRepository.save(user);
+            userPrincipalCache.invalidate(email);
         }
         return jwtUtil.generateToken(user.getEmail());
     }
@@ -72,10 +87,22 @@ public class AuthService {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("Invalid email or password"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("Invalid email or password");
         }
 
+        // Bring hashes made with an older cost setting up to date
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            String oldHash = user.getPassword();
+            passwordHashingService.rehashInBackground(request.getPassword(), newHash -> {
+                // Only if the password was not changed in the meantime
+                mongoTemplate.updateFirst(
+                        new Query(Criteria.where("email").is(user.getEmail()).and("password").is(oldHash)),
+                        new Update().set("password", newHash), User.class);
+                userPrincipalCache.invalidate(user.getEmail());
+            });
+        }
+
         return jwtUtil.generateToken(user.getEmail());
     }
 
@@ -1,6 +1,9 @@
 package com.resumebuilder.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -15,10 +18,15 @@ public class EmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * Send a simple text email
      */
     public void sendSimpleEmail(String to, String subject, String body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setTo(to);
@@ -26,15 +34,21 @@ public class EmailService {
             message.setText(body);
             
             mailSender.send(message);
+            outcome = "success";
         } catch (Exception e) {
             throw new RuntimeException("Failed to send email: " + e.getMessage());
+        } finally {
+            sample.stop(sendTimer("simple", outcome));
         }
     }
 
     /**
-     * Send HTML email with resume as attachment
+     * Send HTML email with resume as attachment. The PDF is read from the source
+     * while the message is written to the SMTP server, never copied into the message.
      */
-    public void sendResumeEmail(String to, String subject, String body, byte[] pdfContent, String fileName) {
+    public void sendResumeEmail(String to, String subject, String body, InputStreamSource pdf, String fileName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true);
@@ -44,13 +58,23 @@ public class EmailService {
             helper.setText(body, true); // true = HTML content
 
             // Add PDF attachment
-            helper.addAttachment(fileName, () -> {
-                return new java.io.ByteArrayInputStream(pdfContent);
-            }, "application/pdf");
+            helper.addAttachment(fileName, pdf, "application/pdf");
 
             mailSender.send(message);
+            outcome = "success";
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send resume email: " + e.getMessage());
+        } finally {
+            sample.stop(sendTimer("resume", outcome));
         }
     }
+
+    // Failed sends are counted too, so the failure rate is the outcome=failure share
+    private Timer sendTimer(String type, String outcome) {
+        return Timer.builder("mail.send")
+                .description("Time spent handing emails to the SMTP server")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,250 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.exception.ServiceOverloadedException;
+import com.resumebuilder.model.MailJob;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.repository.MailJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistent outbound mail queue.
+ *
+ * Jobs are stored in the mail_jobs collection and claimed with an atomic
+ * findAndModify, so a crashed worker's job becomes claimable again once its
+ * lease runs out. Failed sends are retried with exponential backoff.
+ */
+@Service
+public class MailQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailQueueService.class);
+
+    @Autowired
+    private MailJobRepository mailJobRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private PdfService pdfService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private TaskExecutor mailExecutor;
+
+    @Value("${mail.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mail.queue.workers:4}")
+    private int workers;
+
+    @Value("${mail.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.queue.backoff-ms:5000}")
+    private long backoffMs;
+
+    @Value("${mail.queue.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    @Value("${mail.queue.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${mail.queue.per-recipient-interval-ms:10000}")
+    private long perRecipientIntervalMs;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // Earliest time each recipient may receive the next email
+    private final Map<String, Instant> recipientNextSlot = new ConcurrentHashMap<>();
+
+    /**
+     * Queue a resume email and return the stored job
+     */
+    public MailJob enqueueResumeEmail(Resume resume, String recipient, String userEmail) {
+        MailJob job = new MailJob();
+        job.setUserEmail(userEmail);
+        job.setResumeId(resume.getId());
+        job.setRecipient(recipient);
+        job.setSubject("Resume: " + resume.getTitle());
+        job.setBody("<p>Hello,</p>" +
+                "<p>Please find attached my resume.</p>" +
+                "<p>Best regards,<br/>" + resume.getFullName() + "</p>");
+        job.setStatus(MailJob.STATUS_QUEUED);
+        job.setAttempts(0);
+        job.setNextAttemptAt(Instant.now());
+
+        return mailJobRepository.save(job);
+    }
+
+    /**
+     * Get a job, only if it belongs to the given user
+     */
+    public MailJob getJob(String jobId, String userEmail) {
+        MailJob job = mailJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Mail job not found"));
+
+        if (!job.getUserEmail().equals(userEmail)) {
+            throw new RuntimeException("Unauthorized: You can only view your own mail jobs");
+        }
+        return job;
+    }
+
+    /**
+     * Claim due jobs while the worker pool has free capacity
+     */
+    @Scheduled(fixedDelayString = "${mail.queue.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        recipientNextSlot.values().removeIf(slot -> slot.isBefore(now));
+
+        try {
+            while (inFlight.get() < workers) {
+                MailJob job = claimNextJob();
+                if (job == null) {
+                    return;
+                }
+                inFlight.incrementAndGet();
+                try {
+                    mailExecutor.execute(() -> {
+                        try {
+                            process(job);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    inFlight.decrementAndGet();
+                    reschedule(job, Instant.now(), false, null);
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Mail queue dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    private MailJob claimNextJob() {
+        Instant now = Instant.now();
+
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("status").is(MailJob.STATUS_QUEUED).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(MailJob.STATUS_SENDING).and("lockedUntil").lt(now)
+        )).with(Sort.by("nextAttemptAt"));
+
+        Update update = new Update()
+                .set("status", MailJob.STATUS_SENDING)
+                .set("lockedUntil", now.plusMillis(leaseMs))
+                .set("updatedAt", now);
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), MailJob.class);
+    }
+
+    private void process(MailJob job) {
+        Instant slot = reserveRecipientSlot(job.getRecipient());
+        if (slot != null) {
+            // Recipient was mailed too recently; try again when its slot opens
+            reschedule(job, slot, false, null);
+            return;
+        }
+
+        try {
+            Resume resume = resumeService.getResumeById(job.getResumeId());
+            InputStreamSource pdf = pdfService.resumePdfSource(resume);
+
+            emailService.sendResumeEmail(job.getRecipient(), job.getSubject(), job.getBody(), pdf, "resume.pdf");
+
+            job.setStatus(MailJob.STATUS_SENT);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setSentAt(Instant.now());
+            job.setLockedUntil(null);
+            job.setLastError(null);
+            mailJobRepository.save(job);
+        } catch (ServiceOverloadedException e) {
+            // Not the job's fault; retry shortly without using up an attempt
+            reschedule(job, Instant.now().plusSeconds(e.getRetryAfterSeconds()), false, null);
+        } catch (Exception e) {
+            logger.warn("Mail job {} attempt {} failed: {}", job.getId(), job.getAttempts() + 1, e.getMessage());
+            reschedule(job, null, true, e.getMessage());
+        }
+    }
+
+    /**
+     * Put a claimed job back in the queue. Counted attempts back off
+     * exponentially and fail the job once max-attempts is reached.
+     */
+    private void reschedule(MailJob job, Instant at, boolean countAttempt, String error) {
+        if (countAttempt) {
+            int attempts = job.getAttempts() + 1;
+            job.setAttempts(attempts);
+            job.setLastError(error);
+
+            if (attempts >= maxAttempts) {
+                job.setStatus(MailJob.STATUS_FAILED);
+                job.setLockedUntil(null);
+                mailJobRepository.save(job);
+                return;
+            }
+            at = Instant.now().plus(backoff(attempts));
+        }
+
+        job.setStatus(MailJob.STATUS_QUEUED);
+        job.setNextAttemptAt(at);
+        job.setLockedUntil(null);
+        mailJobRepository.save(job);
+    }
+
+    private Duration backoff(int attempts) {
+        long delay = Math.min(maxBackoffMs, backoffMs << Math.min(attempts - 1, 20));
+        long jitter = ThreadLocalRandom.current().nextLong(delay / 4 + 1);
+        return Duration.ofMillis(delay + jitter);
+    }
+
+    /**
+     * Take the recipient's send slot. Returns null if it was free, otherwise
+     * the time the slot opens again.
+     */
+    private Instant reserveRecipientSlot(String recipient) {
+        String key = recipient.toLowerCase(Locale.ROOT);
+        Instant now = Instant.now();
+        Instant[] blockedUntil = new Instant[1];
+
+        recipientNextSlot.compute(key, (k, next) -> {
+            if (next != null && next.isAfter(now)) {
+                blockedUntil[0] = next;
+                return next;
+            }
+            return now.plusMillis(perRecipientIntervalMs);
+        });
+        return blockedUntil[0];
+    }
+}
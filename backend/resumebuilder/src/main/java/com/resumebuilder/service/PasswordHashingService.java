@@ -0,0 +1,139 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt hashing and verification on a dedicated, bounded pool.
+ *
+ * The pool has fewer threads than the machine has cores by default, so a
+ * login storm cannot take every core away from resume saves and PDF
+ * downloads. When its queue is full, requests are rejected straight away with
+ * a ServiceOverloadedException (503) instead of piling up.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final ThreadPoolTaskExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int cost;
+    private final long timeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejected;
+    private final Counter rehashed;
+
+    public PasswordHashingService(ThreadPoolTaskExecutor passwordHashingExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${auth.password.cost:10}") int cost,
+                                  @Value("${auth.password.timeout-ms:5000}") long timeoutMs) {
+        this.executor = passwordHashingExecutor;
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.cost = cost;
+        this.timeoutMs = timeoutMs;
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode")
+                .description("Time spent computing BCrypt hashes").register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.password.hash").tag("operation", "verify")
+                .description("Time spent computing BCrypt hashes").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("Time hashing requests waited for a thread").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Hashing requests turned away because the pool was full").register(meterRegistry);
+        this.rehashed = Counter.builder("auth.password.rehashed")
+                .description("Stored hashes upgraded to the configured cost").register(meterRegistry);
+        Gauge.builder("auth.password.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Hashing requests waiting for a thread").register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Hashing requests being computed").register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return await(submit(() -> encoder.encode(rawPassword), encodeTimer));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(submit(() -> encoder.matches(rawPassword, encodedPassword), verifyTimer));
+    }
+
+    /**
+     * Whether a stored hash was made with a different cost than configured
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return m.find() && Integer.parseInt(m.group(1)) != cost;
+    }
+
+    /**
+     * Re-hash a just-verified password in the background and hand the new
+     * hash to onHashed. Skipped when the pool is busy; the next login retries.
+     */
+    public void rehashInBackground(String rawPassword, Consumer<String> onHashed) {
+        try {
+            submit(() -> {
+                onHashed.accept(encoder.encode(rawPassword));
+                rehashed.increment();
+                return null;
+            }, encodeTimer);
+        } catch (ServiceOverloadedException e) {
+            logger.debug("Skipping password re-hash, hashing pool is busy");
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> work, Timer timer) {
+        long queuedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(work);
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Service busy: too many concurrent sign-ins", 1);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceOverloadedException("Service busy: password check timed out", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Service busy: interrupted waiting for password check", 1);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password hashing failed: " + e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.repository.ResumeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams several resumes as one ZIP archive.
+ *
+ * PDFs are rendered on the shared pdf executor and written to the archive in
+ * completion order. Only a small window of renders is in flight per export,
+ * so at most that many finished PDFs are held in memory at once. A resume
+ * that cannot be exported gets a .error.txt entry instead of failing the
+ * whole download.
+ */
+@Service
+public class PdfExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfExportService.class);
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private PdfService pdfService;
+
+    @Autowired
+    private TaskExecutor pdfExecutor;
+
+    @Value("${pdf.export.max-resumes:100}")
+    private int maxResumes;
+
+    @Value("${pdf.export.window:4}")
+    private int window;
+
+    /**
+     * Resolve which resumes an export covers. Unknown ids and ids owned by
+     * someone else are kept so they can be reported in the archive.
+     */
+    public List<ExportItem> resolve(List<String> resumeIds, String userEmail) {
+        List<ExportItem> items = new ArrayList<>();
+
+        if (resumeIds == null || resumeIds.isEmpty()) {
+            for (Resume resume : resumeRepository.findByUserEmail(userEmail)) {
+                items.add(new ExportItem(resume.getId(), resume));
+            }
+        } else {
+            Set<String> ids = new LinkedHashSet<>(resumeIds);
+            Map<String, Resume> found = new HashMap<>();
+            resumeRepository.findAllById(ids).forEach(resume -> found.put(resume.getId(), resume));
+
+            for (String id : ids) {
+                Resume resume = found.get(id);
+                // Someone else's resume is reported exactly like a missing one
+                items.add(new ExportItem(id, resume != null && userEmail.equals(resume.getUserEmail()) ? resume : null));
+            }
+        }
+
+        if (items.size() > maxResumes) {
+            throw new RuntimeException("Invalid export: at most " + maxResumes + " resumes per archive");
+        }
+        return items;
+    }
+
+    /**
+     * Render the given resumes into a ZIP written to out. The stream is
+     * finished but left open for the caller.
+     */
+    public void writeZip(List<ExportItem> items, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        // PDF content is already compressed; spend as little CPU as possible on it
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        CompletionService<Rendered> renders = new ExecutorCompletionService<>(pdfExecutor);
+        List<Future<Rendered>> pending = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        Iterator<ExportItem> queue = items.iterator();
+        int inFlight = 0;
+
+        try {
+            while (inFlight < window && queue.hasNext()) {
+                inFlight += submit(queue.next(), renders, pending, zip, usedNames);
+            }
+
+            while (inFlight > 0) {
+                Rendered rendered = renders.take().get();
+                inFlight--;
+                writeEntry(zip, usedNames, rendered);
+
+                while (inFlight < window && queue.hasNext()) {
+                    inFlight += submit(queue.next(), renders, pending, zip, usedNames);
+                }
+            }
+            zip.finish();
+            zip.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("PDF export interrupted", e);
+        } catch (ExecutionException e) {
+            // Render tasks catch their own failures, so this is unexpected
+            throw new IOException("PDF export failed", e.getCause());
+        } finally {
+            // The client may have gone away; don't keep rendering for nobody
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Start rendering one item, or write its error entry straight away.
+     * Returns the number of renders started.
+     */
+    private int submit(ExportItem item, CompletionService<Rendered> renders, List<Future<Rendered>> pending,
+                       ZipOutputStream zip, Set<String> usedNames) throws IOException {
+        if (item.getResume() == null) {
+            writeEntry(zip, usedNames, new Rendered(item, null, "Resume not found"));
+            return 0;
+        }
+
+        pending.add(renders.submit(() -> {
+            try {
+                return new Rendered(item, pdfService.generateResumePdf(item.getResume()).readAllBytes(), null);
+            } catch (Exception e) {
+                logger.warn("Export of resume {} failed: {}", item.getId(), e.getMessage());
+                return new Rendered(item, null, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+            }
+        }));
+        return 1;
+    }
+
+    private void writeEntry(ZipOutputStream zip, Set<String> usedNames, Rendered rendered) throws IOException {
+        String base = entryName(rendered.item);
+
+        if (rendered.pdf != null) {
+            zip.putNextEntry(new ZipEntry(unique(base, ".pdf", usedNames)));
+            zip.write(rendered.pdf);
+        } else {
+            zip.putNextEntry(new ZipEntry(unique(base, ".error.txt", usedNames)));
+            String message = "Resume " + rendered.item.getId() + " could not be exported: " + rendered.error + "\n";
+            zip.write(message.getBytes(StandardCharsets.UTF_8));
+        }
+        zip.closeEntry();
+        zip.flush();
+    }
+
+    private static String entryName(ExportItem item) {
+        Resume resume = item.getResume();
+        String name = resume != null && resume.getTitle() != null ? resume.getTitle() : "resume-" + item.getId();
+        name = name.replaceAll("[^A-Za-z0-9._ -]", "").trim().replace(' ', '_');
+        if (name.isEmpty()) {
+            name = "resume-" + item.getId();
+        }
+        return name.length() > 80 ? name.substring(0, 80) : name;
+    }
+
+    private static String unique(String base, String extension, Set<String> usedNames) {
+        String name = base + extension;
+        for (int i = 2; !usedNames.add(name); i++) {
+            name = base + "-" + i + extension;
+        }
+        return name;
+    }
+
+    /**
+     * A requested resume; resume is null when it is missing or not the user's
+     */
+    public static final class ExportItem {
+        private final String id;
+        private final Resume resume;
+
+        ExportItem(String id, Resume resume) {
+            this.id = id;
+            this.resume = resume;
+        }
+
+        public String getId() { return id; }
+        public Resume getResume() { return resume; }
+    }
+
+    private static final class Rendered {
+        private final ExportItem item;
+        private final byte[] pdf;
+        private final String error;
+
+        Rendered(ExportItem item, byte[] pdf, String error) {
+            this.item = item;
+            this.pdf = pdf;
+            this.error = error;
+        }
+    }
+}
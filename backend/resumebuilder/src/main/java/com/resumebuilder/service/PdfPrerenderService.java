@@ -0,0 +1,157 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.repository.ResumeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders resume PDFs in the background after they are saved, so the first
+ * download or email after an edit is usually served from PdfRenderCache.
+ *
+ * Each change pushes the resume's render back by the delay, so a burst of
+ * edits renders once, from the latest saved revision. Background renders only
+ * take a render slot that is free right away; when downloads are keeping
+ * rendering busy they are retried later, and a download in the meantime
+ * renders inline as before.
+ */
+@Service
+public class PdfPrerenderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfPrerenderService.class);
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private PdfService pdfService;
+
+    @Autowired
+    private PdfRenderCache renderCache;
+
+    @Autowired
+    @Qualifier("pdfPrerenderExecutor")
+    private TaskExecutor executor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${pdf.prerender.enabled:true}")
+    private boolean enabled;
+
+    @Value("${pdf.prerender.delay-ms:1000}")
+    private long delayMs;
+
+    @Value("${pdf.prerender.workers:2}")
+    private int workers;
+
+    @Value("${pdf.prerender.max-pending:10000}")
+    private int maxPending;
+
+    // Resume id -> when to render it
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    private Counter rendered;
+    private Counter deferred;
+    private Counter dropped;
+
+    @PostConstruct
+    public void init() {
+        rendered = outcomeCounter("rendered");
+        deferred = outcomeCounter("deferred");
+        dropped = outcomeCounter("dropped");
+        Gauge.builder("pdf.prerender.pending", pending, Map::size)
+                .description("Resumes waiting for a background render")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onResumeChanged(ResumeChangedEvent event) {
+        if (!enabled || !renderCache.isEnabled()) {
+            return;
+        }
+        String id = event.getResumeId();
+        if (pending.size() >= maxPending && !pending.containsKey(id)) {
+            // Downloads still render inline; this only loses the head start
+            dropped.increment();
+            return;
+        }
+        pending.put(id, System.currentTimeMillis() + delayMs);
+    }
+
+    // Hand due renders to the workers; each resume renders on one worker at a time
+    @Scheduled(fixedDelayString = "${pdf.prerender.poll-interval-ms:250}")
+    public void dispatch() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> due : pending.entrySet()) {
+            if (running.size() >= workers) {
+                return;
+            }
+            String id = due.getKey();
+            if (due.getValue() > now || running.contains(id)) {
+                continue;
+            }
+            // Skip it if it was edited again since we looked
+            if (!pending.remove(id, due.getValue())) {
+                continue;
+            }
+
+            running.add(id);
+            try {
+                executor.execute(() -> {
+                    try {
+                        prerender(id);
+                    } finally {
+                        running.remove(id);
+                    }
+                });
+            } catch (RuntimeException e) {
+                running.remove(id);
+                pending.putIfAbsent(id, now + delayMs);
+                return;
+            }
+        }
+    }
+
+    private void prerender(String id) {
+        try {
+            Resume resume = resumeRepository.findById(id).orElse(null);
+            String revision = resume == null ? null : PdfRenderCache.revisionOf(resume);
+            if (revision == null || renderCache.contains(id, revision)) {
+                return; // deleted, not cacheable, or already downloaded in the meantime
+            }
+
+            if (pdfService.prerenderResumePdf(resume)) {
+                rendered.increment();
+            } else {
+                deferred.increment();
+                pending.putIfAbsent(id, System.currentTimeMillis() + delayMs);
+            }
+        } catch (Exception e) {
+            logger.warn("Background render of resume {} failed: {}", id, e.getMessage());
+        }
+    }
+
+    private Counter outcomeCounter(String outcome) {
+        return Counter.builder("pdf.prerender")
+                .description("Background PDF renders by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
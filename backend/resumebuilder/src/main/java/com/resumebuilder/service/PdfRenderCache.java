@@ -0,0 +1,218 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.artifact.ArtifactStore;
+import com.resumebuilder.service.artifact.StoredArtifact;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of rendered resume PDFs keyed by resume id and revision.
+ *
+ * Only the latest revision of each resume is kept. The memory tier is an LRU
+ * bounded by total bytes. When an ArtifactStore is configured (artifact.store)
+ * every cached PDF is also written to it, so renders survive eviction and
+ * restarts and, with GridFS, are shared by every instance.
+ */
+@Component
+public class PdfRenderCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfRenderCache.class);
+
+    private static final String ARTIFACT_PREFIX = "resume-pdf/";
+
+    @Value("${pdf.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${pdf.cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${pdf.cache.max-entry-bytes:2097152}")
+    private long maxEntryBytes;
+
+    // Absent when artifact.store is none
+    @Autowired(required = false)
+    private ArtifactStore artifactStore;
+
+    private long currentBytes;
+
+    // Access-ordered so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    /**
+     * Revision string of a resume, or null if the resume cannot be cached
+     * (not saved yet, or saved before auditing was enabled).
+     */
+    public static String revisionOf(Resume resume) {
+        if (resume.getId() == null || resume.getUpdatedAt() == null) {
+            return null;
+        }
+        return Long.toString(resume.getUpdatedAt().toEpochMilli());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * Get the cached PDF for a resume revision, or null on a miss
+     */
+    public byte[] get(String resumeId, String revision) {
+        byte[] pdf = getFromMemory(resumeId, revision);
+        if (pdf != null) {
+            return pdf;
+        }
+
+        StoredArtifact stored = getStored(resumeId, revision);
+        if (stored == null) {
+            return null;
+        }
+        try {
+            pdf = stored.readAllBytes();
+        } catch (IOException e) {
+            logger.warn("Failed to read stored PDF for resume {}: {}", resumeId, e.getMessage());
+            return null;
+        }
+        putInMemory(resumeId, revision, pdf);
+        return pdf;
+    }
+
+    /**
+     * Get the cached PDF for a resume revision from memory only, or null
+     */
+    public byte[] getFromMemory(String resumeId, String revision) {
+        if (!enabled || revision == null) {
+            return null;
+        }
+        synchronized (this) {
+            Entry entry = entries.get(resumeId);
+            return entry != null && entry.revision.equals(revision) ? entry.pdf : null;
+        }
+    }
+
+    /**
+     * The stored PDF for a resume revision, for streaming it without loading
+     * it into memory, or null if there is none or no store is configured
+     */
+    public StoredArtifact getStored(String resumeId, String revision) {
+        if (!enabled || revision == null || artifactStore == null) {
+            return null;
+        }
+        try {
+            StoredArtifact stored = artifactStore.find(ARTIFACT_PREFIX + resumeId);
+            return stored != null && revision.equals(stored.getVersion()) ? stored : null;
+        } catch (RuntimeException e) {
+            // The store is only a cache tier; a failure there means a render
+            logger.warn("Failed to look up stored PDF for resume {}: {}", resumeId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Whether a PDF for the revision is cached in either tier
+     */
+    public boolean contains(String resumeId, String revision) {
+        return getFromMemory(resumeId, revision) != null || getStored(resumeId, revision) != null;
+    }
+
+    /**
+     * Store a rendered PDF, replacing any older revision of the same resume.
+     * A render that finishes after a newer revision was cached is dropped.
+     */
+    public void put(String resumeId, String revision, byte[] pdf) {
+        if (!enabled || revision == null || pdf.length > maxEntryBytes) {
+            return;
+        }
+        if (putInMemory(resumeId, revision, pdf)) {
+            store(resumeId, revision, pdf);
+        }
+    }
+
+    private boolean putInMemory(String resumeId, String revision, byte[] pdf) {
+        synchronized (this) {
+            Entry current = entries.get(resumeId);
+            if (current != null && Long.parseLong(current.revision) > Long.parseLong(revision)) {
+                return false;
+            }
+            Entry previous = entries.put(resumeId, new Entry(revision, pdf));
+            if (previous != null) {
+                currentBytes -= previous.pdf.length;
+            }
+            currentBytes += pdf.length;
+
+            // Evicted entries stay in the artifact store, if there is one
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (currentBytes > maxBytes && it.hasNext()) {
+                Map.Entry<String, Entry> eldest = it.next();
+                if (eldest.getKey().equals(resumeId)) {
+                    continue;
+                }
+                currentBytes -= eldest.getValue().pdf.length;
+                it.remove();
+            }
+            return true;
+        }
+    }
+
+    private void store(String resumeId, String revision, byte[] pdf) {
+        if (artifactStore == null) {
+            return;
+        }
+        try {
+            // Another instance may have stored a newer revision already
+            StoredArtifact stored = artifactStore.find(ARTIFACT_PREFIX + resumeId);
+            if (stored != null && Long.parseLong(stored.getVersion()) >= Long.parseLong(revision)) {
+                return;
+            }
+            artifactStore.put(ARTIFACT_PREFIX + resumeId, revision, pdf, "application/pdf");
+        } catch (RuntimeException e) {
+            logger.warn("Failed to store PDF for resume {}: {}", resumeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Drop every cached revision of a resume from both tiers
+     */
+    public void invalidate(String resumeId) {
+        synchronized (this) {
+            Entry removed = entries.remove(resumeId);
+            if (removed != null) {
+                currentBytes -= removed.pdf.length;
+            }
+        }
+        if (artifactStore != null) {
+            try {
+                artifactStore.delete(ARTIFACT_PREFIX + resumeId);
+            } catch (RuntimeException e) {
+                // A stale stored revision is never served; it just waits for the TTL
+                logger.warn("Failed to delete stored PDF for resume {}: {}", resumeId, e.getMessage());
+            }
+        }
+    }
+
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        final String revision;
+        final byte[] pdf;
+
+        Entry(String revision, byte[] pdf) {
+            this.revision = revision;
+            this.pdf = pdf;
+        }
+    }
+}
@@ -2,87 +2,340 @@ package com.resumebuilder.service;
 
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfWriter;
+import com.itextpdf.text.pdf.draw.LineSeparator;
 import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.artifact.StoredArtifact;
+import com.resumebuilder.service.pdf.PdfTemplate;
+import com.resumebuilder.service.pdf.PdfTemplateRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class PdfService {
 
+    @Autowired
+    private PdfRenderCache renderCache;
+
+    @Autowired
+    private PdfTemplateRegistry templateRegistry;
+
+    @Autowired
+    private StageLimiter pdfRenderLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Render a resume to PDF, reusing the cached output for an unchanged revision
+     */
     public ByteArrayInputStream generateResumePdf(Resume resume) {
+        String revision = PdfRenderCache.revisionOf(resume);
+
+        byte[] pdf = renderCache.get(resume.getId(), revision);
+        if (pdf == null) {
+            pdf = render(resume, pdfRenderLimiter.acquire());
+            renderCache.put(resume.getId(), revision, pdf);
+        }
+
+        return new ByteArrayInputStream(pdf);
+    }
+
+    /**
+     * The PDF for a resume as an attachment source that opens a fresh stream on
+     * each read. A cached PDF is shared rather than copied, and a stored one is
+     * streamed from the artifact store. Anything else is rendered once, here,
+     * and cached for the next message.
+     */
+    public InputStreamSource resumePdfSource(Resume resume) {
+        String revision = PdfRenderCache.revisionOf(resume);
+
+        byte[] pdf = renderCache.getFromMemory(resume.getId(), revision);
+        if (pdf == null) {
+            StoredArtifact stored = renderCache.getStored(resume.getId(), revision);
+            if (stored != null) {
+                return stored::openStream;
+            }
+
+            pdf = render(resume, pdfRenderLimiter.acquire());
+            renderCache.put(resume.getId(), revision, pdf);
+        }
+
+        byte[] content = pdf;
+        return () -> new ByteArrayInputStream(content);
+    }
 
-        Document document = new Document();
+    /**
+     * Get a download ready before any of the response is written. A cached or
+     * stored PDF needs no render slot; anything else is rendered here, waiting
+     * in the render queue or failing with ServiceOverloadedException (503) when
+     * rendering is overloaded. Rendering up front frees the slot before a slow
+     * client drains the response, and gives every download a known length.
+     */
+    public PdfDownload admitResumePdf(Resume resume) {
+        String revision = PdfRenderCache.revisionOf(resume);
+
+        byte[] pdf = renderCache.getFromMemory(resume.getId(), revision);
+        if (pdf == null) {
+            // Streamed from the store rather than read into memory first
+            StoredArtifact stored = renderCache.getStored(resume.getId(), revision);
+            if (stored != null) {
+                return new PdfDownload(null, stored);
+            }
+
+            pdf = render(resume, pdfRenderLimiter.acquire());
+            if (revision != null) {
+                renderCache.put(resume.getId(), revision, pdf);
+            }
+        }
+        return new PdfDownload(pdf, null);
+    }
+
+    /**
+     * Render a resume into the cache if a render slot is free right now.
+     * Returns false, without rendering, when rendering is busy.
+     */
+    public boolean prerenderResumePdf(Resume resume) {
+        String revision = PdfRenderCache.revisionOf(resume);
+        if (revision == null) {
+            return false;
+        }
+
+        StageLimiter.Permit permit = pdfRenderLimiter.tryAcquire();
+        if (permit == null) {
+            return false;
+        }
+        renderCache.put(resume.getId(), revision, render(resume, permit));
+        return true;
+    }
+
+    /**
+     * Render under a PDF limiter slot, releasing it when done, and record render
+     * time (excluding the wait for the slot) and output size per template. The
+     * slot reports the output size as its work, so the limiter compares render
+     * time per byte and a long resume does not read as contention.
+     */
+    private byte[] render(Resume resume, StageLimiter.Permit permit) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        PdfTemplate template = null;
         ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            template = templateRegistry.resolve(resume.getTemplate(), resume.getThemeColor());
+            renderDocument(resume, template, out);
+            outcome = "success";
+            return out.toByteArray();
+        } finally {
+            permit.release("success".equals(outcome) ? out.size() : 0);
+
+            String templateName = template == null ? "unknown" : template.getName();
+            Timer.builder("pdf.render")
+                    .description("Time spent rendering resume PDFs")
+                    .tag("template", templateName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if ("success".equals(outcome)) {
+                DistributionSummary.builder("pdf.render.size")
+                        .description("Size of rendered resume PDFs")
+                        .baseUnit("bytes")
+                        .tag("template", templateName)
+                        .register(meterRegistry)
+                        .record(out.size());
+            }
+        }
+    }
+
+    /**
+     * A download returned by admitResumePdf: PDF bytes, or a stored artifact
+     * that is streamed from the store when written
+     */
+    public static final class PdfDownload {
+        private final byte[] pdf;
+        private final StoredArtifact stored;
+
+        private PdfDownload(byte[] pdf, StoredArtifact stored) {
+            this.pdf = pdf;
+            this.stored = stored;
+        }
+
+        public long getContentLength() {
+            return pdf != null ? pdf.length : stored.getLength();
+        }
+
+        /**
+         * Write the whole PDF into the stream. The stream is flushed but left open for the caller.
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            writeTo(out, 0, getContentLength());
+        }
+
+        /**
+         * Write count bytes starting at start, as range requests need
+         */
+        public void writeTo(OutputStream out, long start, long count) throws IOException {
+            if (pdf != null) {
+                out.write(pdf, (int) start, (int) count);
+            } else {
+                stored.transferTo(start, count, Channels.newChannel(out));
+            }
+            out.flush();
+        }
+    }
+
+    private void renderDocument(Resume resume, PdfTemplate template, OutputStream out) {
+        float margin = template.getMargin();
+
+        Document document = new Document(PageSize.A4, margin, margin, margin, margin);
 
         try {
-            PdfWriter.getInstance(document, out);
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
             document.open();
 
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
-            Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14);
-            Font bodyFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
-
             // Personal Info
-            if (resume.getPersonalInfo() != null) {
-                Paragraph title = new Paragraph(resume.getPersonalInfo().getFullName(), titleFont);
-                title.setAlignment(Element.ALIGN_CENTER);
-                document.add(title);
-
-                document.add(new Paragraph(" "));
-                String contact = "";
-                if (resume.getPersonalInfo().getPhone() != null) contact += "Phone: " + resume.getPersonalInfo().getPhone() + "  ";
-                if (resume.getPersonalInfo().getEmail() != null) contact += "Email: " + resume.getPersonalInfo().getEmail();
-                
-                Paragraph contactPara = new Paragraph(contact, bodyFont);
-                contactPara.setAlignment(Element.ALIGN_CENTER);
-                document.add(contactPara);
-                
-                if (resume.getPersonalInfo().getSummary() != null) {
-                    document.add(new Paragraph(" "));
-                    document.add(new Paragraph("Summary", headerFont));
-                    document.add(new Paragraph(resume.getPersonalInfo().getSummary(), bodyFont));
-                }
-            }
-            
-            document.add(new Paragraph(" "));
-
-            // Skills
-            if (resume.getSkills() != null && !resume.getSkills().isEmpty()) {
-                document.add(new Paragraph("Skills", headerFont));
-                document.add(new Paragraph(String.join(", ", resume.getSkills()), bodyFont));
-                document.add(new Paragraph(" "));
-            }
+            Resume.PersonalInfo info = resume.getPersonalInfo();
+            if (info != null) {
+                addLine(document, info.getFullName(), template.getNameFont(), template.getHeaderAlignment());
+                addLine(document, info.getJobTitle(), template.getHeadlineFont(), template.getHeaderAlignment());
 
-            // Experience
-            if (resume.getExperience() != null && !resume.getExperience().isEmpty()) {
-                document.add(new Paragraph("Experience", headerFont));
-                for (Resume.Experience exp : resume.getExperience()) {
-                    document.add(new Paragraph(exp.getPosition() + " at " + exp.getCompany(), bodyFont));
-                    document.add(new Paragraph(exp.getStartDate() + " - " + (exp.isCurrent() ? "Present" : exp.getEndDate()), bodyFont));
-                    if (exp.getDescription() != null) document.add(new Paragraph(exp.getDescription(), bodyFont));
-                    document.add(new Paragraph(" "));
-                }
+                String contact = joinPresent("  |  ", info.getPhone(), info.getEmail(), info.getLocation(), info.getWebsite());
+                addLine(document, contact, template.getContactFont(), template.getHeaderAlignment());
             }
 
-            // Education
-            if (resume.getEducation() != null && !resume.getEducation().isEmpty()) {
-                document.add(new Paragraph("Education", headerFont));
-                for (Resume.Education edu : resume.getEducation()) {
-                    document.add(new Paragraph(edu.getDegree() + " at " + edu.getSchool(), bodyFont));
-                    document.add(new Paragraph(edu.getStartDate() + " - " + edu.getEndDate(), bodyFont));
-                    if (edu.getDescription() != null) document.add(new Paragraph(edu.getDescription(), bodyFont));
-                    document.add(new Paragraph(" "));
+            for (PdfTemplate.PlannedSection planned : template.getSections()) {
+                switch (planned.getSection()) {
+                    case SUMMARY -> {
+                        if (info != null && notBlank(info.getSummary())) {
+                            addHeading(document, template, planned.getHeading());
+                            addLine(document, info.getSummary(), template.getBodyFont(), Element.ALIGN_LEFT);
+                        }
+                    }
+                    case EXPERIENCE -> {
+                        if (notEmpty(resume.getExperience())) {
+                            addHeading(document, template, planned.getHeading());
+                            for (Resume.Experience exp : resume.getExperience()) {
+                                String dates = dateRange(exp.getStartDate(), exp.isCurrent() ? "Present" : exp.getEndDate());
+                                addItem(document, template, exp.getPosition(),
+                                        joinPresent("  |  ", exp.getCompany(), dates), exp.getDescription());
+                            }
+                        }
+                    }
+                    case EDUCATION -> {
+                        if (notEmpty(resume.getEducation())) {
+                            addHeading(document, template, planned.getHeading());
+                            for (Resume.Education edu : resume.getEducation()) {
+                                String dates = dateRange(edu.getStartDate(), edu.getEndDate());
+                                addItem(document, template, edu.getDegree(),
+                                        joinPresent("  |  ", edu.getSchool(), dates), edu.getDescription());
+                            }
+                        }
+                    }
+                    case PROJECTS -> {
+                        if (notEmpty(resume.getProjects())) {
+                            addHeading(document, template, planned.getHeading());
+                            for (Resume.Project project : resume.getProjects()) {
+                                addItem(document, template, project.getName(),
+                                        joinPresent("  |  ", project.getRole(), project.getLink()), project.getDescription());
+                            }
+                        }
+                    }
+                    case SKILLS -> addList(document, template, planned.getHeading(), resume.getSkills());
+                    case CERTIFICATIONS -> addList(document, template, planned.getHeading(), resume.getCertifications());
+                    case LANGUAGES -> addList(document, template, planned.getHeading(), resume.getLanguages());
                 }
             }
 
             document.close();
 
-        } catch (Exception e) {
-            e.printStackTrace();
+        } catch (DocumentException e) {
+            // Never hand a half-written document to the cache
+            throw new RuntimeException("Failed to generate PDF: " + e.getMessage());
+        }
+    }
+
+    // ---------- Layout helpers ----------
+
+    private static void addHeading(Document document, PdfTemplate template, String heading) throws DocumentException {
+        Chunk text = new Chunk(heading, template.getHeadingFont());
+        if (template.getHeadingBackground() != null) {
+            text.setBackground(template.getHeadingBackground(), 4, 2, 4, 2);
+        }
+
+        Paragraph paragraph = new Paragraph(text);
+        paragraph.setSpacingBefore(14);
+        paragraph.setSpacingAfter(6);
+        if (template.getHeadingRuleColor() != null) {
+            paragraph.add(new Chunk(new LineSeparator(0.5f, 100, template.getHeadingRuleColor(), Element.ALIGN_CENTER, -3)));
+        }
+        document.add(paragraph);
+    }
+
+    private static void addItem(Document document, PdfTemplate template, String title, String subtitle,
+                                String description) throws DocumentException {
+        Paragraph titleLine = new Paragraph(nullToEmpty(title), template.getItemTitleFont());
+        titleLine.setSpacingBefore(4);
+        document.add(titleLine);
+        addLine(document, subtitle, template.getItemSubtitleFont(), Element.ALIGN_LEFT);
+        addLine(document, description, template.getBodyFont(), Element.ALIGN_LEFT);
+    }
+
+    private static void addList(Document document, PdfTemplate template, String heading, List<String> values)
+            throws DocumentException {
+        if (notEmpty(values)) {
+            addHeading(document, template, heading);
+            addLine(document, String.join(", ", values), template.getBodyFont(), Element.ALIGN_LEFT);
+        }
+    }
+
+    private static void addLine(Document document, String text, Font font, int alignment) throws DocumentException {
+        if (notBlank(text)) {
+            Paragraph paragraph = new Paragraph(text, font);
+            paragraph.setAlignment(alignment);
+            document.add(paragraph);
         }
+    }
+
+    private static String dateRange(String start, String end) {
+        if (!notBlank(start) && !notBlank(end)) {
+            return null;
+        }
+        return nullToEmpty(start) + " - " + nullToEmpty(end);
+    }
+
+    private static String joinPresent(String separator, String... values) {
+        StringBuilder joined = new StringBuilder();
+        for (String value : values) {
+            if (notBlank(value)) {
+                if (joined.length() > 0) {
+                    joined.append(separator);
+                }
+                joined.append(value);
+            }
+        }
+        return joined.toString();
+    }
+
+    private static boolean notBlank(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static boolean notEmpty(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
 
-        return new ByteArrayInputStream(out.toByteArray());
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
     }
 }
@@ -0,0 +1,22 @@
+package com.resumebuilder.service;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published after a resume's content has been saved (created, updated,
+ * patched or restored). Listeners run on the saving thread, so they should
+ * only hand the work off.
+ */
+public class ResumeChangedEvent extends ApplicationEvent {
+
+    private final String resumeId;
+
+    public ResumeChangedEvent(Object source, String resumeId) {
+        super(source);
+        this.resumeId = resumeId;
+    }
+
+    public String getResumeId() {
+        return resumeId;
+    }
+}
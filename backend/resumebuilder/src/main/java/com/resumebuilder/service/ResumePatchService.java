@@ -0,0 +1,293 @@
+package com.resumebuilder.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.history.ResumeHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies partial resume updates as targeted Mongo updates instead of
+ * read-modify-write of the whole document.
+ *
+ * Every update bumps the resume's version and can be made conditional on the
+ * version the client last saw, so concurrent tabs cannot silently overwrite
+ * each other.
+ */
+@Service
+public class ResumePatchService {
+
+    // Sections whose entries are objects identified by their id field
+    private static final Map<String, Class<?>> ENTRY_SECTIONS = Map.of(
+            "experience", Resume.Experience.class,
+            "education", Resume.Education.class,
+            "projects", Resume.Project.class,
+            "socialLinks", Resume.SocialLink.class
+    );
+
+    // Sections whose entries are plain strings, identified by their value
+    private static final Set<String> STRING_SECTIONS = Set.of("skills", "certifications", "languages");
+
+    private static final Set<String> TEXT_FIELDS = Set.of("coverLetter", "themeColor", "template");
+
+    private static final Set<String> PERSONAL_INFO_FIELDS =
+            Set.of("fullName", "email", "phone", "location", "website", "jobTitle", "summary");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PdfRenderCache pdfRenderCache;
+
+    @Autowired
+    private ResumeHistoryService resumeHistoryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to the top level of a resume.
+     * Personal info is merged field by field; lists and text fields are replaced.
+     * A null value removes the field, personalInfo included.
+     */
+    public Resume mergePatch(String id, Map<String, Object> patch, Long expectedVersion, String userEmail) {
+        if (patch == null || patch.isEmpty()) {
+            throw new RuntimeException("Invalid patch: no fields to update");
+        }
+
+        Update update = new Update();
+
+        for (Map.Entry<String, Object> field : patch.entrySet()) {
+            String name = field.getKey();
+            Object value = field.getValue();
+
+            if (name.equals("personalInfo")) {
+                mergePersonalInfo(value, update);
+            } else if (ENTRY_SECTIONS.containsKey(name)) {
+                setOrUnset(update, name, value == null ? null : convert(value, listOf(ENTRY_SECTIONS.get(name)), name));
+            } else if (STRING_SECTIONS.contains(name)) {
+                setOrUnset(update, name, value == null ? null : convert(value, listOf(String.class), name));
+            } else if (TEXT_FIELDS.contains(name)) {
+                setOrUnset(update, name, value == null ? null : convert(value, String.class, name));
+            } else {
+                throw new RuntimeException("Invalid patch: unsupported field '" + name + "'");
+            }
+        }
+
+        return apply(id, null, update, expectedVersion, userEmail);
+    }
+
+    /**
+     * Merge-patch a single entry of a section, e.g. one experience item
+     */
+    public Resume patchEntry(String id, String section, String entryId, Map<String, Object> patch,
+                             Long expectedVersion, String userEmail) {
+        Class<?> entryType = entrySection(section);
+        if (patch == null || patch.isEmpty()) {
+            throw new RuntimeException("Invalid patch: no fields to update");
+        }
+
+        // Validate names and types against the entry class before touching Mongo
+        Map<String, Object> typed = objectMapper.convertValue(convert(patch, entryType, section),
+                new TypeReference<Map<String, Object>>() {});
+
+        Update update = new Update();
+        for (String name : patch.keySet()) {
+            if (name.equals("id") || !typed.containsKey(name)) {
+                throw new RuntimeException("Invalid patch: unsupported field '" + section + "." + name + "'");
+            }
+            setOrUnset(update, section + ".$[entry]." + name, patch.get(name) == null ? null : typed.get(name));
+        }
+        // Array filters are passed to Mongo as written, so use the stored name of an entry's id
+        update.filterArray(Criteria.where("entry._id").is(entryId));
+
+        return apply(id, Criteria.where(section + ".id").is(entryId), update, expectedVersion, userEmail);
+    }
+
+    /**
+     * Append an entry to a section. Object entries get an id if they have none.
+     */
+    public Resume addEntry(String id, String section, Object entry, Long expectedVersion, String userEmail) {
+        Object value;
+        if (STRING_SECTIONS.contains(section)) {
+            value = convert(entry, String.class, section);
+        } else {
+            Object typed = convert(entry, entrySection(section), section);
+            Map<String, Object> fields = objectMapper.convertValue(typed, new TypeReference<Map<String, Object>>() {});
+            if (fields.get("id") == null || fields.get("id").toString().isBlank()) {
+                fields.put("id", UUID.randomUUID().toString());
+            }
+            value = objectMapper.convertValue(fields, entrySection(section));
+        }
+
+        return apply(id, null, new Update().push(section, value), expectedVersion, userEmail);
+    }
+
+    /**
+     * Remove an entry from a section by id (or by value for string sections)
+     */
+    public Resume removeEntry(String id, String section, String entryId, Long expectedVersion, String userEmail) {
+        Update update = new Update();
+        if (STRING_SECTIONS.contains(section)) {
+            update.pull(section, entryId);
+        } else {
+            entrySection(section);
+            update.pull(section, new org.bson.Document("id", entryId));
+        }
+
+        return apply(id, null, update, expectedVersion, userEmail);
+    }
+
+    /**
+     * Parse an If-Match header carrying a resume version ("3" or "\"3\"").
+     * Returns null when there is no precondition.
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("\"") && value.endsWith("\"") && value.length() >= 2) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
+    // ---------- Internals ----------
+
+    private Resume apply(String id, Criteria extra, Update update, Long expectedVersion, String userEmail) {
+        Criteria criteria = Criteria.where("_id").is(id).and("userEmail").is(userEmail);
+        if (expectedVersion != null) {
+            criteria = criteria.andOperator(versionIs(expectedVersion));
+        }
+        Query query = new Query(extra == null ? criteria : new Criteria().andOperator(criteria, extra));
+        if (!resumeHistoryService.isEnabled()) {
+            // History is recorded from the written document; without it the reply only needs these
+            query.fields().include("version", "updatedAt", "userEmail");
+        }
+
+        update.inc("version", 1).set("updatedAt", Instant.now());
+
+        Resume updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Resume.class);
+
+        if (updated == null) {
+            throw explainMiss(id, extra, expectedVersion, userEmail);
+        }
+
+        pdfRenderCache.invalidate(id);
+        resumeHistoryService.record(updated);
+        eventPublisher.publishEvent(new ResumeChangedEvent(this, id));
+        return updated;
+    }
+
+    /**
+     * Work out why a conditional update matched nothing
+     */
+    private RuntimeException explainMiss(String id, Criteria extra, Long expectedVersion, String userEmail) {
+        Query byId = new Query(Criteria.where("_id").is(id));
+        byId.fields().include("userEmail", "version");
+        Resume current = mongoTemplate.findOne(byId, Resume.class);
+
+        if (current == null) {
+            return new RuntimeException("Resume not found");
+        }
+        if (!current.getUserEmail().equals(userEmail)) {
+            return new RuntimeException("Unauthorized: You can only update your own resumes");
+        }
+        if (expectedVersion != null && current.getVersion() != expectedVersion) {
+            return new RuntimeException("Precondition failed: resume is at version " + current.getVersion()
+                    + ", expected " + expectedVersion);
+        }
+        return new RuntimeException("Entry not found");
+    }
+
+    static Criteria versionIs(long version) {
+        // Documents saved before versioning have no version field, which reads as 0
+        if (version == 0) {
+            return new Criteria().orOperator(
+                    Criteria.where("version").is(0L),
+                    Criteria.where("version").exists(false));
+        }
+        return Criteria.where("version").is(version);
+    }
+
+    private void mergePersonalInfo(Object value, Update update) {
+        if (value == null) {
+            // The derived name and title go with it
+            update.unset("personalInfo").unset("fullName").unset("title");
+            return;
+        }
+        if (!(value instanceof Map<?, ?> fields)) {
+            throw new RuntimeException("Invalid patch: personalInfo must be an object");
+        }
+        for (Map.Entry<?, ?> field : fields.entrySet()) {
+            String name = String.valueOf(field.getKey());
+            if (!PERSONAL_INFO_FIELDS.contains(name)) {
+                throw new RuntimeException("Invalid patch: unsupported field 'personalInfo." + name + "'");
+            }
+            Object fieldValue = field.getValue() == null ? null
+                    : convert(field.getValue(), String.class, "personalInfo." + name);
+            setOrUnset(update, "personalInfo." + name, fieldValue);
+
+            // Keep the derived title in step, as a full update would
+            if (name.equals("fullName")) {
+                setOrUnset(update, "title", fieldValue == null ? null : "Resume of " + fieldValue);
+                setOrUnset(update, "fullName", fieldValue);
+            }
+        }
+    }
+
+    private Class<?> entrySection(String section) {
+        Class<?> type = ENTRY_SECTIONS.get(section);
+        if (type == null) {
+            throw new RuntimeException("Invalid patch: unknown section '" + section + "'");
+        }
+        return type;
+    }
+
+    private static void setOrUnset(Update update, String path, Object value) {
+        if (value == null) {
+            update.unset(path);
+        } else {
+            update.set(path, value);
+        }
+    }
+
+    private Object convert(Object value, JavaType type, String field) {
+        try {
+            return objectMapper.convertValue(value, type);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid patch: bad value for '" + field + "'");
+        }
+    }
+
+    private Object convert(Object value, Class<?> type, String field) {
+        return convert(value, objectMapper.constructType(type), field);
+    }
+
+    private JavaType listOf(Class<?> elementType) {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+}
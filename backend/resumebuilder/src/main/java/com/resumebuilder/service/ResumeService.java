@@ -1,19 +1,93 @@
 package com.resumebuilder.service;
 
 import com.resumebuilder.dto.ResumeRequest;
+import com.resumebuilder.dto.ResumeSearchHit;
+import com.resumebuilder.dto.ResumeSearchPage;
+import com.resumebuilder.dto.ResumeSummary;
+import com.resumebuilder.dto.ResumeSummaryPage;
+import com.resumebuilder.dto.ResumeVersionInfo;
 import com.resumebuilder.model.Resume;
 import com.resumebuilder.repository.ResumeRepository;
+import com.resumebuilder.service.history.ResumeHistoryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 public class ResumeService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ResumeService.class);
+
+    private static final int MAX_SEARCH_LENGTH = 200;
+
+    // Guarded replaces tried before an unconditional update gives up
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
     @Autowired
     private ResumeRepository resumeRepository;
 
+    @Autowired
+    private PdfRenderCache pdfRenderCache;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ResumeHistoryService resumeHistoryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${resume.write.coalesce:true}")
+    private boolean coalesceWrites;
+
+    @Value("${resume.write.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private WriteCoalescer<String, PendingUpdate, Resume> updateCoalescer;
+    private Counter coalescedUpdates;
+
+    @PostConstruct
+    public void init() {
+        updateCoalescer = new WriteCoalescer<>(coalesceWrites, this::flushUpdates);
+        coalescedUpdates = Counter.builder("resume.update.coalesced")
+                .description("Resume updates merged into another update's write")
+                .register(meterRegistry);
+    }
+
+    // Write out updates still queued behind another write before Mongo goes away
+    @PreDestroy
+    public void flushPendingUpdates() {
+        updateCoalescer.close(shutdownTimeoutMs);
+    }
+
     // Create Resume
     public Resume createResume(ResumeRequest request, String userEmail) {
 
@@ -23,31 +97,89 @@ public class ResumeService {
         // Map fields
         mapRequestToResume(request, resume);
 
-        return resumeRepository.save(resume);
+        Resume saved = resumeRepository.save(resume);
+        resumeHistoryService.record(saved);
+        eventPublisher.publishEvent(new ResumeChangedEvent(this, saved.getId()));
+        return saved;
     }
 
     // Update Resume
     public Resume updateResume(String id, ResumeRequest request, String userEmail) {
+        return updateResume(id, request, userEmail, null);
+    }
 
-        Resume resume = getResumeById(id);
-        
-        // Debug Logging
-        System.out.println("Update Resume - ID: " + id);
-        System.out.println("Authenticated User: " + userEmail);
-        System.out.println("Resume Owner: " + resume.getUserEmail());
-
-        // Verify resume belongs to the authenticated user
-        if (!resume.getUserEmail().equalsIgnoreCase(userEmail)) {
-            throw new RuntimeException("Unauthorized: You can only update your own resumes. Owner: " + resume.getUserEmail() + ", You: " + userEmail);
+    /**
+     * Update a resume, optionally only if it is still at expectedVersion (If-Match).
+     * Conditional updates skip coalescing: folding two writes made against the same
+     * version into one would be exactly the lost update the precondition prevents.
+     */
+    public Resume updateResume(String id, ResumeRequest request, String userEmail, Long expectedVersion) {
+        if (expectedVersion != null) {
+            return writeUpdate(id, request, userEmail, expectedVersion);
         }
+        // Saves of one resume by one user that arrive during a write (several tabs) share the next write
+        String key = id + "\n" + userEmail.toLowerCase(Locale.ROOT);
+        return updateCoalescer.submit(key, new PendingUpdate(id, request, userEmail));
+    }
 
-        // Map fields
-        mapRequestToResume(request, resume);
+    // Every update replaces the whole resume, so only the latest one in a batch is written
+    private Resume flushUpdates(String key, List<PendingUpdate> updates) {
+        coalescedUpdates.increment(updates.size() - 1);
+        PendingUpdate latest = updates.get(updates.size() - 1);
+        return writeUpdate(latest.id, latest.request, latest.userEmail, null);
+    }
+
+    /**
+     * Replace the resume's content and bump its version. The replace only goes
+     * through if the version is still the one read, so a concurrent PATCH can
+     * never leave two contents under one version number (the ETag). Without
+     * If-Match a lost race is retried on the fresh document; with it, it fails.
+     */
+    private Resume writeUpdate(String id, ResumeRequest request, String userEmail, Long expectedVersion) {
+        for (int attempt = 1; ; attempt++) {
+            Resume resume = getResumeById(id);
+
+            logger.debug("Update resume {} (attempt {}) by {}, owner {}", id, attempt, userEmail, resume.getUserEmail());
+
+            // Verify resume belongs to the authenticated user
+            if (!resume.getUserEmail().equalsIgnoreCase(userEmail)) {
+                throw new RuntimeException("Unauthorized: You can only update your own resumes. Owner: " + resume.getUserEmail() + ", You: " + userEmail);
+            }
+
+            long currentVersion = resume.getVersion();
+            if (expectedVersion != null && currentVersion != expectedVersion) {
+                throw preconditionFailed(currentVersion, expectedVersion);
+            }
+
+            // Map fields
+            mapRequestToResume(request, resume);
+            resume.setVersion(currentVersion + 1);
 
-        return resumeRepository.save(resume);
+            // Replace only if nobody wrote since we read it
+            Query unchanged = new Query(Criteria.where("_id").is(id)
+                    .andOperator(ResumePatchService.versionIs(currentVersion)));
+            Resume saved = mongoTemplate.findAndReplace(unchanged, resume, FindAndReplaceOptions.options().returnNew());
+            if (saved != null) {
+                pdfRenderCache.invalidate(id);
+                resumeHistoryService.record(saved);
+                eventPublisher.publishEvent(new ResumeChangedEvent(this, id));
+                return saved;
+            }
+
+            // Lost a race; the next read sees the new version (or fails the If-Match)
+            if (attempt >= MAX_WRITE_ATTEMPTS) {
+                throw new RuntimeException("Conflict: resume kept changing during the update, try again");
+            }
+        }
+    }
+
+    private static RuntimeException preconditionFailed(long currentVersion, long expectedVersion) {
+        return new RuntimeException("Precondition failed: resume is at version " + currentVersion
+                + ", expected " + expectedVersion);
     }
 
-    private void mapRequestToResume(ResumeRequest request, Resume resume) {
+    // Package-private for ReactiveResumeService and ResumeMappingBenchmark
+    static void mapRequestToResume(ResumeRequest request, Resume resume) {
         resume.setPersonalInfo(request.getPersonalInfo());
         if (resume.getPersonalInfo() != null) {
             resume.setTitle("Resume of " + resume.getPersonalInfo().getFullName());
@@ -64,6 +196,7 @@ public class ResumeService {
         resume.setSkills(request.getSkills());
         resume.setCoverLetter(request.getCoverLetter());
         resume.setThemeColor(request.getThemeColor());
+        resume.setTemplate(request.getTemplate());
     }
 
     // Get all resumes of logged-in user
@@ -71,13 +204,167 @@ public class ResumeService {
         return resumeRepository.findByUserEmail(userEmail);
     }
 
+    // Get one page of resume summaries, most recently updated first
+    public ResumeSummaryPage getMyResumeSummaries(String userEmail, String cursor, int limit) {
+        Criteria criteria = Criteria.where("userEmail").is(userEmail);
+        if (cursor != null && !cursor.isBlank()) {
+            criteria = criteria.andOperator(afterCursor(cursor));
+        }
+
+        // Served from the (userEmail, updatedAt, _id) index; only dashboard fields leave Mongo
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "updatedAt", "_id"))
+                .limit(limit + 1);
+        query.fields().include("title", "updatedAt", "atsScore", "status", "version");
+
+        List<ResumeSummary> items = mongoTemplate.find(query, ResumeSummary.class, "resumes");
+
+        String nextCursor = null;
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            nextCursor = encodeCursor(items.get(limit - 1));
+        }
+        return new ResumeSummaryPage(items, nextCursor);
+    }
+
+    // Search the user's resumes, best match first
+    public ResumeSearchPage searchMyResumes(String userEmail, String text, int page, int size) {
+        if (text == null || text.isBlank()) {
+            throw new RuntimeException("Search text is required");
+        }
+        if (text.length() > MAX_SEARCH_LENGTH) {
+            throw new RuntimeException("Search text is too long");
+        }
+
+        // The userEmail equality is the prefix of the text index, so only this user's entries are read
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                .sortByScore()
+                .addCriteria(Criteria.where("userEmail").is(userEmail))
+                .skip((long) page * size)
+                .limit(size + 1);
+        query.fields().include("title", "updatedAt", "atsScore", "status", "version");
+
+        List<ResumeSearchHit> items = mongoTemplate.find(query, ResumeSearchHit.class, "resumes");
+
+        boolean hasMore = items.size() > size;
+        if (hasMore) {
+            items = items.subList(0, size);
+        }
+        return new ResumeSearchPage(items, page, size, hasMore);
+    }
+
+    private static String encodeCursor(ResumeSummary last) {
+        String updatedAt = last.getUpdatedAt() == null ? "" : Long.toString(last.getUpdatedAt().toEpochMilli());
+        String raw = updatedAt + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Everything that sorts after the cursor position in (updatedAt desc, _id desc).
+     * Resumes without updatedAt sort last.
+     */
+    private static Criteria afterCursor(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+
+        int separator = raw.indexOf(':');
+        if (separator < 0) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        String id = raw.substring(separator + 1);
+
+        if (separator == 0) {
+            return new Criteria().andOperator(
+                    Criteria.where("updatedAt").is(null),
+                    Criteria.where("_id").lt(id));
+        }
+
+        Instant updatedAt;
+        try {
+            updatedAt = Instant.ofEpochMilli(Long.parseLong(raw.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        return new Criteria().orOperator(
+                Criteria.where("updatedAt").lt(updatedAt),
+                new Criteria().andOperator(Criteria.where("updatedAt").is(updatedAt), Criteria.where("_id").lt(id)),
+                Criteria.where("updatedAt").is(null));
+    }
+
+    /**
+     * Owner, version and last update of a resume without its content, enough to
+     * answer a conditional GET
+     */
+    public Resume getResumeRevision(String id) {
+        Query query = new Query(Criteria.where("_id").is(id));
+        query.fields().include("userEmail", "version", "updatedAt");
+        Resume resume = mongoTemplate.findOne(query, Resume.class);
+        if (resume == null) {
+            throw new RuntimeException("Resume not found");
+        }
+        return resume;
+    }
+
+    /**
+     * Fingerprint of the user's resume list: changes when any resume is added,
+     * removed or gets a new version. Reads only ids and versions.
+     */
+    public String getMyResumesFingerprint(String userEmail) {
+        Query query = new Query(Criteria.where("userEmail").is(userEmail));
+        query.fields().include("version");
+
+        List<Resume> revisions = mongoTemplate.find(query, Resume.class);
+        revisions.sort(Comparator.comparing(Resume::getId));
+
+        MessageDigest digest = sha256();
+        for (Resume revision : revisions) {
+            digest.update((revision.getId() + ":" + revision.getVersion() + ";").getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     // Get single resume
     public Resume getResumeById(String id) {
         return resumeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Resume not found"));
     }
 
-    // Delete Resume
+    // Version history of a resume, newest first
+    public List<ResumeVersionInfo> getResumeVersions(String id, String userEmail, Long beforeVersion, int limit) {
+        checkHistoryAccess(id, userEmail);
+        return resumeHistoryService.listVersions(id, beforeVersion, limit);
+    }
+
+    // Resume content as it was at a past version
+    public ResumeRequest getResumeVersion(String id, long version, String userEmail) {
+        checkHistoryAccess(id, userEmail);
+        return resumeHistoryService.getVersion(id, version);
+    }
+
+    // Restore a past version; saved as a new version, so the restore can be undone too
+    public Resume restoreResumeVersion(String id, long version, String userEmail) {
+        checkHistoryAccess(id, userEmail);
+        return updateResume(id, resumeHistoryService.getVersion(id, version), userEmail);
+    }
+
+    private void checkHistoryAccess(String id, String userEmail) {
+        Resume resume = getResumeById(id);
+        if (!resume.getUserEmail().equalsIgnoreCase(userEmail)) {
+            throw new RuntimeException("Unauthorized: You can only view the history of your own resumes");
+        }
+    }
 
     // Delete Resume
     public void deleteResume(String id, String userEmail) {
@@ -89,5 +376,19 @@ public class ResumeService {
         }
         
         resumeRepository.deleteById(id);
+        pdfRenderCache.invalidate(id);
+        resumeHistoryService.deleteHistory(id);
+    }
+
+    private static final class PendingUpdate {
+        final String id;
+        final ResumeRequest request;
+        final String userEmail;
+
+        PendingUpdate(String id, ResumeRequest request, String userEmail) {
+            this.id = id;
+            this.request = request;
+            this.userEmail = userEmail;
+        }
     }
 }
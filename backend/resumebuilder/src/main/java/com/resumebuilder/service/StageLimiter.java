@@ -0,0 +1,264 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.exception.ServiceOverloadedException;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control for a CPU-heavy stage, such as PDF rendering.
+ *
+ * With virtual threads there is no pool size limiting this, so a burst of
+ * requests would otherwise run every render at the same time and
+ * starve the CPU (or run out of memory). At most limit callers run at once;
+ * a short FIFO queue waits behind them, each caller until its deadline.
+ * Callers are turned away with a ServiceOverloadedException when the queue is
+ * full or their deadline passes, so an overloaded stage fails fast instead of
+ * tying up request threads.
+ *
+ * The limit adapts to the stage's latency (AIMD): it grows by one per limit
+ * completions while the stage is busy and latency stays within tolerance of
+ * the best recently seen, and shrinks by 10% when latency rises past that,
+ * which is the sign that more concurrency only adds contention. Callers that
+ * report how much work a permit did (e.g. bytes rendered) are compared per unit
+ * of work, so one large job is not mistaken for contention.
+ */
+public class StageLimiter {
+
+    private static final double DECREASE_FACTOR = 0.9;
+
+    // Latencies below this are noise, not contention
+    private static final long MIN_BASELINE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // Lets the baseline creep up by 1% per sample, so it follows a slower but steady stage
+    private static final double BASELINE_DRIFT = 1.01;
+
+    private final String stage;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long queueTimeoutMs;
+    private final double latencyTolerance;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+
+    // Guarded by lock
+    private double limit;
+    private int inFlight;
+    // Best recent latency per unit of work
+    private double baselineNanos;
+    private double averageNanos;
+    private long lastDecreaseNanos;
+    private long rejected;
+
+    /**
+     * @param limit starting concurrency
+     * @param maxLimit the limit never grows past this; equal to limit for a fixed limit
+     * @param maxQueue callers allowed to wait for a slot; more are rejected at once
+     * @param queueTimeoutMs longest wait for a slot
+     * @param latencyTolerance latency over this multiple of the baseline shrinks the limit
+     */
+    public StageLimiter(String stage, int limit, int maxLimit, int maxQueue, long queueTimeoutMs,
+                        double latencyTolerance) {
+        this.stage = stage;
+        this.limit = Math.max(1, limit);
+        this.maxLimit = Math.max(maxLimit, (int) this.limit);
+        this.maxQueue = Math.max(0, maxQueue);
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    /**
+     * A limiter that never queues, rejects or adapts, for measuring a stage on its own
+     */
+    public static StageLimiter unlimited(String stage) {
+        return new StageLimiter(stage, Integer.MAX_VALUE, Integer.MAX_VALUE, 0, 0, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Take a slot, waiting in the queue if the stage is at its limit. Pair every
+     * successful call with {@link Permit#release()} in a finally block.
+     */
+    public Permit acquire() {
+        lock.lock();
+        try {
+            if (queue.isEmpty() && inFlight < currentLimit()) {
+                inFlight++;
+                return new Permit();
+            }
+            if (queue.size() >= maxQueue) {
+                throw overloaded("too many " + stage + " requests waiting");
+            }
+
+            Waiter waiter = new Waiter(lock.newCondition());
+            queue.addLast(waiter);
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+            try {
+                while (!waiter.granted) {
+                    if (remainingNanos <= 0) {
+                        queue.remove(waiter);
+                        throw overloaded("timed out waiting for " + stage);
+                    }
+                    remainingNanos = waiter.condition.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.granted) {
+                    // Granted just as we were interrupted; hand the slot on
+                    inFlight--;
+                    grantWaiting();
+                } else {
+                    queue.remove(waiter);
+                }
+                throw new ServiceOverloadedException("Service busy: interrupted waiting for " + stage, 1);
+            }
+            return new Permit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take a slot only if one is free right now, without queueing; for
+     * background work that should never hold up callers. Returns null otherwise.
+     */
+    public Permit tryAcquire() {
+        lock.lock();
+        try {
+            if (queue.isEmpty() && inFlight < currentLimit()) {
+                inFlight++;
+                return new Permit();
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueueLength() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long latencyNanos, long work) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= currentLimit();
+            inFlight--;
+            if (work > 0) {
+                adapt(latencyNanos, work, saturated);
+            }
+            grantWaiting();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adapt(long latencyNanos, long work, boolean saturated) {
+        averageNanos = averageNanos == 0 ? latencyNanos : averageNanos * 0.8 + latencyNanos * 0.2;
+        double unitNanos = (double) latencyNanos / work;
+        baselineNanos = baselineNanos == 0 ? unitNanos : Math.min(unitNanos, baselineNanos * BASELINE_DRIFT);
+
+        long now = System.nanoTime();
+        if (latencyNanos > MIN_BASELINE_NANOS * latencyTolerance && unitNanos > baselineNanos * latencyTolerance) {
+            // At most once per render time, so one slow burst doesn't collapse the limit
+            if (now - lastDecreaseNanos > latencyNanos) {
+                limit = Math.max(1, limit * DECREASE_FACTOR);
+                lastDecreaseNanos = now;
+            }
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private void grantWaiting() {
+        while (!queue.isEmpty() && inFlight < currentLimit()) {
+            Waiter next = queue.pollFirst();
+            next.granted = true;
+            inFlight++;
+            next.condition.signal();
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private ServiceOverloadedException overloaded(String reason) {
+        rejected++;
+        // Roughly how long until the queue ahead has drained
+        double waitMs = averageNanos / 1_000_000.0 * (queue.size() + 1) / currentLimit();
+        return new ServiceOverloadedException("Service busy: " + reason, Math.max(1, (long) Math.ceil(waitMs / 1000)));
+    }
+
+    /**
+     * A slot in the stage. Releasing it reports how long it was held, which
+     * drives the limit, so take it right before the work and release right after.
+     */
+    public final class Permit {
+        private final long start = System.nanoTime();
+        private boolean released;
+
+        public void release() {
+            release(1);
+        }
+
+        /**
+         * Release after doing the given amount of work, in any unit that grows
+         * with the cost of the job (the same unit on every release). Zero frees
+         * the slot without counting its latency, e.g. for a job that failed early.
+         */
+        public void release(long work) {
+            if (!released) {
+                released = true;
+                StageLimiter.this.release(System.nanoTime() - start, work);
+            }
+        }
+    }
+
+    private static final class Waiter {
+        final Condition condition;
+        boolean granted;
+
+        Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
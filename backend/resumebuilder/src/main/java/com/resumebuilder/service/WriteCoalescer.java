@@ -0,0 +1,144 @@
+package com.resumebuilder.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Merges writes for the same key that arrive while an earlier write is being flushed.
+ *
+ * A write for an idle key is flushed right away. Writes that arrive while a flush
+ * for their key is running join one batch, which is flushed as soon as that flush
+ * finishes; nothing waits on a timer. Every caller gets the result of the flush that
+ * included its write, so it reads its own write back. Flushes for one key never
+ * overlap, and run in the order their batches were opened.
+ */
+public class WriteCoalescer<K, W, R> {
+
+    private final boolean enabled;
+    private final BiFunction<K, List<W>, R> flusher;
+
+    private final ConcurrentHashMap<K, Batch> open = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, CompletableFuture<R>> flushing = new ConcurrentHashMap<>();
+    private final AtomicInteger inProgress = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * @param enabled false flushes every write on its own (still one at a time per key)
+     * @param flusher writes one batch; gets the batched writes in arrival order
+     */
+    public WriteCoalescer(boolean enabled, BiFunction<K, List<W>, R> flusher) {
+        this.enabled = enabled;
+        this.flusher = flusher;
+    }
+
+    /**
+     * Add a write and wait until it has been flushed. Failures of the flush are
+     * rethrown to every caller in the batch.
+     */
+    public R submit(K key, W write) {
+        inProgress.incrementAndGet();
+        try {
+            return coalesce(key, write);
+        } finally {
+            inProgress.decrementAndGet();
+        }
+    }
+
+    private R coalesce(K key, W write) {
+        if (!enabled || closed) {
+            CompletableFuture<R> result = new CompletableFuture<>();
+            waitFor(flushing.put(key, result));
+            return flush(key, List.of(write), result);
+        }
+
+        List<Batch> joined = new ArrayList<>(1);
+        boolean[] leader = new boolean[1];
+        open.compute(key, (k, batch) -> {
+            if (batch == null) {
+                batch = new Batch();
+                leader[0] = true;
+            }
+            batch.writes.add(write);
+            joined.add(batch);
+            return batch;
+        });
+        Batch batch = joined.get(0);
+
+        if (!leader[0]) {
+            return await(batch.result);
+        }
+
+        // Queue behind the running flush, if any, while the batch still takes new writes
+        waitFor(flushing.put(key, batch.result));
+        // Once removed, later writes for this key start a new batch
+        open.remove(key, batch);
+        return flush(key, batch.writes, batch.result);
+    }
+
+    /**
+     * Stop batching and wait up to the timeout for every pending write.
+     * Writes submitted after this are flushed one by one.
+     */
+    public void close(long timeoutMs) {
+        closed = true;
+
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (inProgress.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public int getOpenBatches() {
+        return open.size();
+    }
+
+    private R flush(K key, List<W> writes, CompletableFuture<R> result) {
+        try {
+            result.complete(flusher.apply(key, writes));
+        } catch (Throwable e) {
+            // Complete with any failure, or the other callers in the batch would wait forever
+            result.completeExceptionally(e);
+        } finally {
+            flushing.remove(key, result);
+        }
+        return await(result);
+    }
+
+    private void waitFor(CompletableFuture<R> previous) {
+        if (previous == null) {
+            return;
+        }
+        try {
+            previous.join();
+        } catch (CompletionException | CancellationException e) {
+            // The previous batch's callers got its failure; this batch still writes
+        }
+    }
+
+    private R await(CompletableFuture<R> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private final class Batch {
+        final List<W> writes = new ArrayList<>();
+        final CompletableFuture<R> result = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,36 @@
+package com.resumebuilder.service.artifact;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the configured ArtifactStore's garbage collection periodically
+ */
+@Component
+public class ArtifactGarbageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactGarbageCollector.class);
+
+    // Absent when artifact.store is none
+    @Autowired(required = false)
+    private ArtifactStore artifactStore;
+
+    @Scheduled(fixedDelayString = "${artifact.gc-interval-ms:3600000}",
+            initialDelayString = "${artifact.gc-interval-ms:3600000}")
+    public void collect() {
+        if (artifactStore == null) {
+            return;
+        }
+        try {
+            int removed = artifactStore.collectGarbage();
+            if (removed > 0) {
+                logger.info("Removed {} unreferenced artifacts", removed);
+            }
+        } catch (Exception e) {
+            logger.warn("Artifact GC failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.resumebuilder.service.artifact;
+
+/**
+ * Durable storage for generated files such as rendered resume PDFs.
+ *
+ * Content is stored once per SHA-256 hash; names point at content and carry
+ * a version (for PDFs, the resume revision), so storing the same bytes under
+ * several names, or again under one name, keeps a single copy. Names expire
+ * after the store's TTL, and collectGarbage removes content no name points to.
+ */
+public interface ArtifactStore {
+
+    /**
+     * Point name at the given content, replacing what it pointed to before
+     */
+    StoredArtifact put(String name, String version, byte[] content, String contentType);
+
+    /**
+     * The artifact a name points to, or null if it is missing or expired
+     */
+    StoredArtifact find(String name);
+
+    void delete(String name);
+
+    /**
+     * Drop expired names and content no name points to any more.
+     * Returns the number of content blobs removed.
+     */
+    int collectGarbage();
+}
@@ -0,0 +1,228 @@
+package com.resumebuilder.service.artifact;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Artifacts in a local directory:
+ *
+ *   blobs/ab/abcdef....bin    content, named by its SHA-256
+ *   names/<name>.properties   what a name points to, and when it expires
+ *
+ * Every file is written to a temp file and moved into place, so readers never
+ * see a partial one. Reads go through FileChannel.transferTo, which lets the
+ * OS copy straight from the page cache when the target is a socket or file.
+ */
+public class FilesystemArtifactStore implements ArtifactStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilesystemArtifactStore.class);
+
+    private final Path blobs;
+    private final Path names;
+    private final Duration ttl;
+    private final Duration gcGrace;
+    private final LongSupplier clock;
+
+    /**
+     * @param gcGrace content younger than this is never collected, so a put
+     *                that is about to point a name at it cannot lose it
+     */
+    public FilesystemArtifactStore(Path root, Duration ttl, Duration gcGrace, LongSupplier clock) {
+        this.blobs = root.resolve("blobs");
+        this.names = root.resolve("names");
+        this.ttl = ttl;
+        this.gcGrace = gcGrace;
+        this.clock = clock;
+        try {
+            Files.createDirectories(blobs);
+            Files.createDirectories(names);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create artifact directory " + root, e);
+        }
+    }
+
+    @Override
+    public StoredArtifact put(String name, String version, byte[] content, String contentType) {
+        String hash = ContentHash.sha256(content);
+        Instant now = Instant.ofEpochMilli(clock.getAsLong());
+        try {
+            writeBlob(hash, content, now);
+
+            Properties ref = new Properties();
+            ref.setProperty("version", version);
+            ref.setProperty("hash", hash);
+            ref.setProperty("length", Long.toString(content.length));
+            ref.setProperty("contentType", contentType);
+            ref.setProperty("expiresAt", Long.toString(now.plus(ttl).toEpochMilli()));
+            Path tmp = Files.createTempFile(names, "name", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                ref.store(out, null);
+            }
+            Files.move(tmp, nameFile(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store artifact " + name, e);
+        }
+        return new FileArtifact(name, version, hash, content.length, contentType, now.plus(ttl), blobFile(hash));
+    }
+
+    @Override
+    public StoredArtifact find(String name) {
+        Properties ref = readRef(nameFile(name));
+        if (ref == null) {
+            return null;
+        }
+        Instant expiresAt = Instant.ofEpochMilli(Long.parseLong(ref.getProperty("expiresAt")));
+        String hash = ref.getProperty("hash");
+        Path blob = blobFile(hash);
+        if (!expiresAt.isAfter(Instant.ofEpochMilli(clock.getAsLong())) || !Files.exists(blob)) {
+            return null;
+        }
+        return new FileArtifact(name, ref.getProperty("version"), hash, Long.parseLong(ref.getProperty("length")),
+                ref.getProperty("contentType"), expiresAt, blob);
+    }
+
+    @Override
+    public void delete(String name) {
+        try {
+            Files.deleteIfExists(nameFile(name));
+        } catch (IOException e) {
+            logger.warn("Failed to delete artifact {}: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public int collectGarbage() {
+        long now = clock.getAsLong();
+        Set<String> referenced = new HashSet<>();
+
+        try (DirectoryStream<Path> refs = Files.newDirectoryStream(names, "*.properties")) {
+            for (Path file : refs) {
+                Properties ref = readRef(file);
+                if (ref == null) {
+                    continue;
+                }
+                if (Long.parseLong(ref.getProperty("expiresAt")) <= now) {
+                    Files.deleteIfExists(file);
+                } else {
+                    referenced.add(ref.getProperty("hash"));
+                }
+            }
+        } catch (IOException e) {
+            // Without the full set of names nothing can safely be collected
+            logger.warn("Artifact GC skipped, cannot list names: {}", e.getMessage());
+            return 0;
+        }
+
+        int removed = 0;
+        long cutoff = now - gcGrace.toMillis();
+        try (Stream<Path> files = Files.walk(blobs, 2)) {
+            for (Path blob : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".bin"))::iterator) {
+                String hash = blob.getFileName().toString().replace(".bin", "");
+                if (!referenced.contains(hash) && Files.getLastModifiedTime(blob).toMillis() < cutoff) {
+                    Files.deleteIfExists(blob);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Artifact GC stopped early: {}", e.getMessage());
+        }
+        return removed;
+    }
+
+    private void writeBlob(String hash, byte[] content, Instant now) throws IOException {
+        Path blob = blobFile(hash);
+        try {
+            // Same content already stored; mark it fresh so GC's grace period covers this put
+            Files.setLastModifiedTime(blob, FileTime.from(now));
+            return;
+        } catch (NoSuchFileException e) {
+            // New content
+        }
+
+        Files.createDirectories(blob.getParent());
+        Path tmp = Files.createTempFile(blob.getParent(), "blob", ".tmp");
+        try {
+            Files.write(tmp, content);
+            Files.setLastModifiedTime(tmp, FileTime.from(now));
+            // A concurrent put of the same content may have won; the bytes are identical either way
+            Files.move(tmp, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Properties readRef(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            Properties ref = new Properties();
+            ref.load(in);
+            return ref;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Unreadable artifact name {}: {}", file.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Path blobFile(String hash) {
+        return blobs.resolve(hash.substring(0, 2)).resolve(hash + ".bin");
+    }
+
+    // Names may contain '/', so they are URL-encoded into one file name
+    private Path nameFile(String name) {
+        return names.resolve(URLEncoder.encode(name, StandardCharsets.UTF_8) + ".properties");
+    }
+
+    private static final class FileArtifact extends StoredArtifact {
+
+        private final Path blob;
+
+        FileArtifact(String name, String version, String hash, long length, String contentType, Instant expiresAt,
+                     Path blob) {
+            super(name, version, hash, length, contentType, expiresAt);
+            this.blob = blob;
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return Files.newInputStream(blob);
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            try (FileChannel channel = FileChannel.open(blob, StandardOpenOption.READ)) {
+                long end = position + count;
+                while (position < end) {
+                    long sent = channel.transferTo(position, end - position, target);
+                    if (sent <= 0) {
+                        throw new IOException("Artifact " + getName() + " is shorter than recorded");
+                    }
+                    position += sent;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.resumebuilder.service.artifact;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.resumebuilder.model.ArtifactRef;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Artifacts in Mongo, shared by every instance: content is a GridFS file named
+ * by its SHA-256, names are documents in the artifacts collection. Expired
+ * names are removed by the TTL index on expiresAt; collectGarbage then removes
+ * the GridFS files no name points to.
+ *
+ * Two instances putting the same new content at once can both store it. Readers
+ * always use the oldest copy, and collectGarbage removes the others.
+ */
+public class GridFsArtifactStore implements ArtifactStore {
+
+    // GridFsTemplate's default bucket
+    private static final String FILES_COLLECTION = "fs.files";
+    private static final String TOUCHED_AT = "touchedAt";
+
+    private final GridFsTemplate gridFsTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final Duration ttl;
+    private final Duration gcGrace;
+    private final LongSupplier clock;
+
+    /**
+     * @param gcGrace content younger than this is never collected, so a put
+     *                that is about to point a name at it cannot lose it
+     */
+    public GridFsArtifactStore(GridFsTemplate gridFsTemplate, MongoTemplate mongoTemplate, Duration ttl,
+                               Duration gcGrace, LongSupplier clock) {
+        this.gridFsTemplate = gridFsTemplate;
+        this.mongoTemplate = mongoTemplate;
+        this.ttl = ttl;
+        this.gcGrace = gcGrace;
+        this.clock = clock;
+    }
+
+    @Override
+    public StoredArtifact put(String name, String version, byte[] content, String contentType) {
+        String hash = ContentHash.sha256(content);
+        Instant now = Instant.ofEpochMilli(clock.getAsLong());
+
+        // Mark existing content fresh, so GC's grace period covers this put
+        Update touch = new Update().set("metadata." + TOUCHED_AT, Date.from(now));
+        if (mongoTemplate.updateMulti(blobQuery(hash), touch, FILES_COLLECTION).getMatchedCount() == 0) {
+            gridFsTemplate.store(new ByteArrayInputStream(content), hash, contentType,
+                    new Document(TOUCHED_AT, Date.from(now)));
+        }
+
+        ArtifactRef ref = new ArtifactRef();
+        ref.setId(name);
+        ref.setVersion(version);
+        ref.setHash(hash);
+        ref.setLength(content.length);
+        ref.setContentType(contentType);
+        ref.setCreatedAt(now);
+        ref.setExpiresAt(now.plus(ttl));
+        mongoTemplate.save(ref);
+        return new GridFsArtifact(ref);
+    }
+
+    @Override
+    public StoredArtifact find(String name) {
+        ArtifactRef ref = mongoTemplate.findById(name, ArtifactRef.class);
+        // The TTL monitor only runs once a minute
+        if (ref == null || !ref.getExpiresAt().isAfter(Instant.ofEpochMilli(clock.getAsLong()))) {
+            return null;
+        }
+        return new GridFsArtifact(ref);
+    }
+
+    @Override
+    public void delete(String name) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(name)), ArtifactRef.class);
+    }
+
+    @Override
+    public int collectGarbage() {
+        Date cutoff = new Date(clock.getAsLong() - gcGrace.toMillis());
+        List<GridFSFile> candidates = new ArrayList<>();
+        gridFsTemplate.find(new Query(Criteria.where("metadata." + TOUCHED_AT).lt(cutoff))).into(candidates);
+
+        int removed = 0;
+        for (GridFSFile file : candidates) {
+            String hash = file.getFilename();
+            if (!mongoTemplate.exists(new Query(Criteria.where("hash").is(hash)), ArtifactRef.class)) {
+                gridFsTemplate.delete(new Query(Criteria.where("_id").is(file.getObjectId())));
+                removed++;
+            }
+        }
+        return removed + removeDuplicates();
+    }
+
+    /**
+     * Delete every copy of a content hash but the oldest, the one readers use
+     */
+    private int removeDuplicates() {
+        Aggregation duplicated = Aggregation.newAggregation(
+                Aggregation.group("filename").count().as("copies"),
+                Aggregation.match(Criteria.where("copies").gt(1)));
+
+        int removed = 0;
+        for (Document group : mongoTemplate.aggregate(duplicated, FILES_COLLECTION, Document.class)) {
+            List<GridFSFile> copies = new ArrayList<>();
+            gridFsTemplate.find(oldestFirst(group.getString("_id"))).into(copies);
+            for (GridFSFile copy : copies.subList(1, copies.size())) {
+                gridFsTemplate.delete(new Query(Criteria.where("_id").is(copy.getObjectId())));
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static Query blobQuery(String hash) {
+        return new Query(Criteria.where("filename").is(hash));
+    }
+
+    private static Query oldestFirst(String hash) {
+        return blobQuery(hash).with(Sort.by("uploadDate", "_id"));
+    }
+
+    private final class GridFsArtifact extends StoredArtifact {
+
+        GridFsArtifact(ArtifactRef ref) {
+            super(ref.getId(), ref.getVersion(), ref.getHash(), ref.getLength(), ref.getContentType(),
+                    ref.getExpiresAt());
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            GridFSFile file = gridFsTemplate.find(oldestFirst(getHash())).first();
+            if (file == null) {
+                throw new IOException("Content of artifact " + getName() + " is gone");
+            }
+            return gridFsTemplate.getResource(file).getInputStream();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.resumebuilder.service.artifact;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+
+/**
+ * A name in an ArtifactStore and the content it points to. The content is
+ * read on demand, never held here.
+ */
+public abstract class StoredArtifact {
+
+    private final String name;
+    private final String version;
+    private final String hash;
+    private final long length;
+    private final String contentType;
+    private final Instant expiresAt;
+
+    protected StoredArtifact(String name, String version, String hash, long length, String contentType,
+                             Instant expiresAt) {
+        this.name = name;
+        this.version = version;
+        this.hash = hash;
+        this.length = length;
+        this.contentType = contentType;
+        this.expiresAt = expiresAt;
+    }
+
+    public abstract InputStream openStream() throws IOException;
+
+    /**
+     * Copy count bytes starting at position into target. Stores that can should
+     * override this to let the OS copy without going through the heap.
+     */
+    public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        try (InputStream in = openStream()) {
+            in.skipNBytes(position);
+            OutputStream out = Channels.newOutputStream(target);
+            byte[] buffer = new byte[8192];
+            long remaining = count;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new IOException("Artifact " + name + " is shorter than recorded");
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    public byte[] readAllBytes() throws IOException {
+        try (InputStream in = openStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public String getVersion() { return version; }
+    public String getHash() { return hash; }
+    public long getLength() { return length; }
+    public String getContentType() { return contentType; }
+    public Instant getExpiresAt() { return expiresAt; }
+}
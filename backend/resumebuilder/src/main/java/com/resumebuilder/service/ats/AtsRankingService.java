@@ -0,0 +1,91 @@
+package com.resumebuilder.service.ats;
+
+import com.resumebuilder.model.Resume;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+/**
+ * Ranks every stored resume against one job description.
+ *
+ * Resumes are read from a Mongo cursor in chunks; each chunk is scored on
+ * the ranking ForkJoinPool into its own top-K heap and the heaps are merged.
+ * Only a bounded number of chunks are in flight, so memory does not grow
+ * with the collection and all scores are never held at once.
+ */
+@Service
+public class AtsRankingService {
+
+    @Autowired
+    private AtsScoringEngine scoringEngine;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ForkJoinPool atsRankingPool;
+
+    @Value("${ats.ranking.chunk-size:64}")
+    private int chunkSize;
+
+    @Value("${ats.ranking.max-top-k:500}")
+    private int maxTopK;
+
+    public List<RankedResume> rank(String jobDescription, int topK) {
+        int k = Math.max(1, Math.min(topK, maxTopK));
+        JobProfile job = scoringEngine.compile(jobDescription);
+
+        // Skip fields the scorer never reads
+        Query query = new Query();
+        query.fields().exclude("coverLetter", "socialLinks", "languages", "themeColor", "template", "atsFeedback");
+        query.cursorBatchSize(chunkSize);
+
+        int maxInFlight = atsRankingPool.getParallelism() * 2;
+        Deque<ForkJoinTask<TopK>> inFlight = new ArrayDeque<>();
+        TopK best = new TopK(k);
+
+        try (Stream<Resume> cursor = mongoTemplate.stream(query, Resume.class)) {
+            Iterator<Resume> resumes = cursor.iterator();
+
+            while (resumes.hasNext()) {
+                List<Resume> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && resumes.hasNext()) {
+                    chunk.add(resumes.next());
+                }
+                inFlight.add(atsRankingPool.submit(() -> scoreChunk(chunk, job, k)));
+
+                // Back-pressure: stop reading the cursor until the oldest chunk is done
+                if (inFlight.size() >= maxInFlight) {
+                    best.merge(inFlight.poll().join());
+                }
+            }
+        } finally {
+            while (!inFlight.isEmpty()) {
+                best.merge(inFlight.poll().join());
+            }
+        }
+
+        return best.toSortedList();
+    }
+
+    private TopK scoreChunk(List<Resume> chunk, JobProfile job, int k) {
+        TopK local = new TopK(k);
+        for (Resume resume : chunk) {
+            double score = scoringEngine.quickScore(resume, job);
+            local.offer(new RankedResume(resume.getId(), resume.getTitle(), resume.getFullName(),
+                    resume.getUserEmail(), score));
+        }
+        return local;
+    }
+}
@@ -0,0 +1,26 @@
+package com.resumebuilder.service.ats;
+
+import java.util.List;
+
+/**
+ * Outcome of scoring one resume against one job description
+ */
+public class AtsResult {
+
+    private final double score;
+    private final String feedback;
+    private final List<String> matchedSkills;
+    private final List<String> missingSkills;
+
+    public AtsResult(double score, String feedback, List<String> matchedSkills, List<String> missingSkills) {
+        this.score = score;
+        this.feedback = feedback;
+        this.matchedSkills = matchedSkills;
+        this.missingSkills = missingSkills;
+    }
+
+    public double getScore() { return score; }
+    public String getFeedback() { return feedback; }
+    public List<String> getMatchedSkills() { return matchedSkills; }
+    public List<String> getMissingSkills() { return missingSkills; }
+}
@@ -0,0 +1,334 @@
+package com.resumebuilder.service.ats;
+
+import com.resumebuilder.model.Resume;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Deterministic, local ATS scoring.
+ *
+ * Score out of 100:
+ * - 60 for keyword coverage: share of the job's dictionary skills found in
+ *   the resume (or of its most frequent words when it names no known skill)
+ * - 25 for section completeness: contact, summary, experience, education, skills
+ * - 15 for date consistency across experience and education entries
+ */
+@Component
+public class AtsScoringEngine {
+
+    private static final double KEYWORD_WEIGHT = 60;
+    private static final double SECTION_WEIGHT = 25;
+    private static final double DATE_WEIGHT = 15;
+
+    private static final int FALLBACK_KEYWORDS = 25;
+
+    // Never produced by the tokenizer, so it never matches a dictionary term
+    private static final String FIELD_BOUNDARY = "|";
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "about", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have",
+            "in", "is", "it", "of", "on", "or", "our", "that", "the", "their", "this", "to", "we",
+            "will", "with", "you", "your", "who", "what", "work", "team", "role", "experience",
+            "ability", "strong", "years", "plus", "etc", "including", "must", "should", "can");
+
+    private static final Pattern YEAR_MONTH_NUMERIC = Pattern.compile("^(\\d{4})[-/.](\\d{1,2})");
+    private static final Pattern MONTH_YEAR_NUMERIC = Pattern.compile("^(\\d{1,2})[-/.](\\d{4})");
+    private static final Pattern MONTH_NAME_YEAR = Pattern.compile("^([a-z]{3,9})\\.?\\s+(\\d{4})");
+    private static final Pattern YEAR_ONLY = Pattern.compile("^(\\d{4})$");
+
+    private static final Map<String, Integer> MONTHS = Map.ofEntries(
+            Map.entry("jan", 1), Map.entry("feb", 2), Map.entry("mar", 3), Map.entry("apr", 4),
+            Map.entry("may", 5), Map.entry("jun", 6), Map.entry("jul", 7), Map.entry("aug", 8),
+            Map.entry("sep", 9), Map.entry("oct", 10), Map.entry("nov", 11), Map.entry("dec", 12));
+
+    private final SkillDictionary dictionary;
+
+    public AtsScoringEngine(SkillDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Tokenize a job description once so it can be scored against many resumes
+     */
+    public JobProfile compile(String jobDescription) {
+        List<String> tokens = AtsTokenizer.tokenize(jobDescription);
+        BitSet skills = dictionary.match(tokens);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : tokens) {
+            if (token.length() > 2 && !STOP_WORDS.contains(token) && !isNumber(token)) {
+                counts.merge(token, 1, Integer::sum);
+            }
+        }
+        Set<String> keywords = counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(FALLBACK_KEYWORDS)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new JobProfile(skills, keywords);
+    }
+
+    /**
+     * Score only, without building feedback; for ranking many resumes
+     */
+    public double quickScore(Resume resume, JobProfile job) {
+        List<String> tokens = resumeTokens(resume);
+        double coverage = keywordCoverage(tokens, dictionary.match(tokens), job, null, null);
+        return total(coverage, sectionCompleteness(resume, null), dateConsistency(resume, null));
+    }
+
+    /**
+     * Score with human-readable feedback
+     */
+    public AtsResult score(Resume resume, JobProfile job) {
+        List<String> tokens = resumeTokens(resume);
+
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        List<String> missingSections = new ArrayList<>();
+        List<String> dateIssues = new ArrayList<>();
+
+        double coverage = keywordCoverage(tokens, dictionary.match(tokens), job, matched, missing);
+        double sections = sectionCompleteness(resume, missingSections);
+        double dates = dateConsistency(resume, dateIssues);
+        double score = total(coverage, sections, dates);
+
+        StringBuilder feedback = new StringBuilder();
+        if (job.skillCount() > 0) {
+            feedback.append("Keyword match: ").append(matched.size()).append('/')
+                    .append(job.skillCount()).append(" job skills found.");
+        } else {
+            feedback.append("Keyword match: ").append(Math.round(coverage * 100))
+                    .append("% of the job description's key terms found.");
+        }
+        if (!missing.isEmpty()) {
+            feedback.append("\nMissing skills: ").append(String.join(", ", missing)).append('.');
+        }
+        if (!missingSections.isEmpty()) {
+            feedback.append("\nMissing sections: ").append(String.join(", ", missingSections)).append('.');
+        }
+        for (String issue : dateIssues) {
+            feedback.append("\nDates: ").append(issue);
+        }
+
+        return new AtsResult(score, feedback.toString(), matched, missing);
+    }
+
+    // ---------- Components ----------
+
+    private double keywordCoverage(List<String> tokens, BitSet resumeSkills, JobProfile job,
+                                   List<String> matched, List<String> missing) {
+        BitSet jobSkills = job.skills();
+
+        if (!jobSkills.isEmpty()) {
+            BitSet found = (BitSet) jobSkills.clone();
+            found.and(resumeSkills);
+
+            if (matched != null) {
+                for (int id = jobSkills.nextSetBit(0); id >= 0; id = jobSkills.nextSetBit(id + 1)) {
+                    (found.get(id) ? matched : missing).add(dictionary.name(id));
+                }
+            }
+            return (double) found.cardinality() / jobSkills.cardinality();
+        }
+
+        // Job names no dictionary skill; fall back to its most frequent words
+        if (job.keywords().isEmpty()) {
+            return 0;
+        }
+        Set<String> resumeTokens = new HashSet<>(tokens);
+        long hits = job.keywords().stream().filter(resumeTokens::contains).count();
+        return (double) hits / job.keywords().size();
+    }
+
+    private double sectionCompleteness(Resume resume, List<String> missing) {
+        Resume.PersonalInfo info = resume.getPersonalInfo();
+        int present = 0;
+
+        present += check(info != null && (notBlank(info.getEmail()) || notBlank(info.getPhone())), "contact details", missing);
+        present += check(info != null && notBlank(info.getSummary()), "summary", missing);
+        present += check(resume.getExperience() != null && !resume.getExperience().isEmpty(), "experience", missing);
+        present += check(resume.getEducation() != null && !resume.getEducation().isEmpty(), "education", missing);
+        present += check(resume.getSkills() != null && !resume.getSkills().isEmpty(), "skills", missing);
+
+        return present / 5.0;
+    }
+
+    private double dateConsistency(Resume resume, List<String> issues) {
+        int checked = 0;
+        int problems = 0;
+        YearMonth now = YearMonth.now();
+
+        if (resume.getExperience() != null) {
+            for (Resume.Experience exp : resume.getExperience()) {
+                checked++;
+                problems += checkDates("Experience '" + exp.getCompany() + "'", exp.getStartDate(),
+                        exp.getEndDate(), exp.isCurrent(), now, issues);
+            }
+        }
+        if (resume.getEducation() != null) {
+            for (Resume.Education edu : resume.getEducation()) {
+                checked++;
+                problems += checkDates("Education '" + edu.getSchool() + "'", edu.getStartDate(),
+                        edu.getEndDate(), false, now, issues);
+            }
+        }
+
+        if (checked == 0) {
+            return 0;
+        }
+        return Math.max(0, 1 - (double) problems / checked);
+    }
+
+    private int checkDates(String label, String startText, String endText, boolean current,
+                           YearMonth now, List<String> issues) {
+        YearMonth start = parseDate(startText);
+        if (start == null) {
+            return issue(issues, label + " has a missing or unreadable start date.");
+        }
+        if (start.isAfter(now)) {
+            return issue(issues, label + " starts in the future.");
+        }
+        if (current || isPresent(endText)) {
+            return 0;
+        }
+
+        YearMonth end = parseDate(endText);
+        if (end == null) {
+            return issue(issues, label + " has a missing or unreadable end date.");
+        }
+        if (end.isBefore(start)) {
+            return issue(issues, label + " ends before it starts.");
+        }
+        return 0;
+    }
+
+    // ---------- Helpers ----------
+
+    private static double total(double coverage, double sections, double dates) {
+        double score = KEYWORD_WEIGHT * coverage + SECTION_WEIGHT * sections + DATE_WEIGHT * dates;
+        return Math.round(score * 10) / 10.0;
+    }
+
+    private static List<String> resumeTokens(Resume resume) {
+        List<String> text = new ArrayList<>(256);
+
+        Resume.PersonalInfo info = resume.getPersonalInfo();
+        if (info != null) {
+            append(text, info.getJobTitle());
+            append(text, info.getSummary());
+        }
+        if (resume.getSkills() != null) {
+            resume.getSkills().forEach(skill -> append(text, skill));
+        }
+        if (resume.getExperience() != null) {
+            for (Resume.Experience exp : resume.getExperience()) {
+                append(text, exp.getPosition());
+                append(text, exp.getDescription());
+            }
+        }
+        if (resume.getProjects() != null) {
+            for (Resume.Project project : resume.getProjects()) {
+                append(text, project.getName());
+                append(text, project.getDescription());
+            }
+        }
+        if (resume.getEducation() != null) {
+            resume.getEducation().forEach(edu -> append(text, edu.getDegree()));
+        }
+        if (resume.getCertifications() != null) {
+            resume.getCertifications().forEach(cert -> append(text, cert));
+        }
+        return text;
+    }
+
+    /**
+     * Add a field's tokens followed by a boundary, so words from neighbouring
+     * fields (two adjacent skills, say) never join into one phrase
+     */
+    private static void append(List<String> tokens, String value) {
+        if (value != null) {
+            tokens.addAll(AtsTokenizer.tokenize(value));
+            tokens.add(FIELD_BOUNDARY);
+        }
+    }
+
+    static YearMonth parseDate(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String value = text.trim().toLowerCase(Locale.ROOT);
+
+        try {
+            Matcher m = YEAR_MONTH_NUMERIC.matcher(value);
+            if (m.find()) {
+                return YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)));
+            }
+            m = MONTH_YEAR_NUMERIC.matcher(value);
+            if (m.find()) {
+                return YearMonth.of(Integer.parseInt(m.group(2)), Integer.parseInt(m.group(1)));
+            }
+            m = MONTH_NAME_YEAR.matcher(value);
+            if (m.find()) {
+                Integer month = MONTHS.get(m.group(1).substring(0, 3));
+                return month == null ? null : YearMonth.of(Integer.parseInt(m.group(2)), month);
+            }
+            m = YEAR_ONLY.matcher(value);
+            if (m.find()) {
+                return YearMonth.of(Integer.parseInt(m.group(1)), 1);
+            }
+        } catch (java.time.DateTimeException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static boolean isPresent(String text) {
+        if (text == null) {
+            return false;
+        }
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        return value.equals("present") || value.equals("current") || value.equals("now");
+    }
+
+    private static int check(boolean present, String section, List<String> missing) {
+        if (!present && missing != null) {
+            missing.add(section);
+        }
+        return present ? 1 : 0;
+    }
+
+    private static int issue(List<String> issues, String message) {
+        if (issues != null) {
+            issues.add(message);
+        }
+        return 1;
+    }
+
+    private static boolean notBlank(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static boolean isNumber(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
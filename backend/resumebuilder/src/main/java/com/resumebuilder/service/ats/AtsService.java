@@ -0,0 +1,47 @@
+package com.resumebuilder.service.ats;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.ResumeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AtsService {
+
+    @Autowired
+    private AtsScoringEngine scoringEngine;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Score a resume against a job description and store the result in
+     * atsScore/atsFeedback
+     */
+    public AtsResult scoreResume(String resumeId, String jobDescription, String userEmail) {
+        Resume resume = resumeService.getResumeById(resumeId);
+
+        // Verify resume belongs to the authenticated user
+        if (!resume.getUserEmail().equals(userEmail)) {
+            throw new RuntimeException("Unauthorized: You can only score your own resumes");
+        }
+
+        AtsResult result = scoringEngine.score(resume, scoringEngine.compile(jobDescription));
+
+        // Content is unchanged, so updatedAt (and any cached PDF) stays valid; only the version moves
+        Update update = new Update()
+                .set("atsScore", result.getScore())
+                .set("atsFeedback", result.getFeedback())
+                .inc("version", 1);
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(resumeId)), update, Resume.class);
+
+        return result;
+    }
+}
@@ -0,0 +1,52 @@
+package com.resumebuilder.service.ats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits free text into lowercase word tokens.
+ *
+ * Letters, digits, '+', '#' and '.' stay inside a token so that terms like
+ * c++, c# and node.js survive; everything else separates tokens. Trailing
+ * dots (sentence ends) are dropped.
+ */
+public final class AtsTokenizer {
+
+    private AtsTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.') {
+                current.append(c);
+            } else {
+                flush(current, tokens);
+            }
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        int end = current.length();
+        while (end > 0 && current.charAt(end - 1) == '.') {
+            end--;
+        }
+        // Keep a single leading dot (.net) but not an ellipsis
+        int start = 0;
+        while (start < end - 1 && current.charAt(start) == '.' && current.charAt(start + 1) == '.') {
+            start++;
+        }
+        if (end > start) {
+            tokens.add(current.substring(start, end));
+        }
+        current.setLength(0);
+    }
+}
@@ -0,0 +1,32 @@
+package com.resumebuilder.service.ats;
+
+import java.util.BitSet;
+import java.util.Set;
+
+/**
+ * A tokenized job description, built once and reusable across any number of
+ * resumes
+ */
+public final class JobProfile {
+
+    private final BitSet skills;
+    private final Set<String> keywords;
+
+    JobProfile(BitSet skills, Set<String> keywords) {
+        this.skills = skills;
+        this.keywords = keywords;
+    }
+
+    // Callers must not modify the returned set
+    BitSet skills() {
+        return skills;
+    }
+
+    Set<String> keywords() {
+        return keywords;
+    }
+
+    public int skillCount() {
+        return skills.cardinality();
+    }
+}
@@ -0,0 +1,27 @@
+package com.resumebuilder.service.ats;
+
+/**
+ * One entry of a batch ranking
+ */
+public class RankedResume {
+
+    private final String resumeId;
+    private final String title;
+    private final String fullName;
+    private final String userEmail;
+    private final double score;
+
+    public RankedResume(String resumeId, String title, String fullName, String userEmail, double score) {
+        this.resumeId = resumeId;
+        this.title = title;
+        this.fullName = fullName;
+        this.userEmail = userEmail;
+        this.score = score;
+    }
+
+    public String getResumeId() { return resumeId; }
+    public String getTitle() { return title; }
+    public String getFullName() { return fullName; }
+    public String getUserEmail() { return userEmail; }
+    public double getScore() { return score; }
+}
@@ -0,0 +1,131 @@
+package com.resumebuilder.service.ats;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable skills and synonym index, built once from ats/skills.txt.
+ *
+ * Every skill gets a dense int id and every synonym maps to its skill's id,
+ * so a piece of text reduces to a BitSet of skill ids and comparing two texts
+ * is plain bit arithmetic.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final String RESOURCE = "ats/skills.txt";
+
+    private final String[] names;
+    private final Map<String, Integer> termToId;
+    private final int maxPhraseLength;
+
+    public SkillDictionary() {
+        this(readResource(RESOURCE));
+    }
+
+    /**
+     * Build from dictionary lines: "canonical|synonym|synonym", # for comments
+     */
+    public SkillDictionary(List<String> lines) {
+        List<String> skillNames = new ArrayList<>();
+        Map<String, Integer> terms = new HashMap<>();
+        int longest = 1;
+
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+
+            String[] variants = trimmed.split("\\|");
+            int id = skillNames.size();
+            skillNames.add(variants[0].trim());
+
+            for (String variant : variants) {
+                // Normalize with the same tokenizer used on resumes so both sides agree
+                List<String> tokens = AtsTokenizer.tokenize(variant);
+                if (tokens.isEmpty()) {
+                    continue;
+                }
+                terms.putIfAbsent(String.join(" ", tokens), id);
+                longest = Math.max(longest, tokens.size());
+            }
+        }
+
+        this.names = skillNames.toArray(new String[0]);
+        this.termToId = Collections.unmodifiableMap(terms);
+        this.maxPhraseLength = longest;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int skillId) {
+        return names[skillId];
+    }
+
+    /**
+     * Skill ids mentioned in a token stream, preferring the longest phrase at
+     * each position ("spring boot" over "spring")
+     */
+    public BitSet match(List<String> tokens) {
+        BitSet found = new BitSet(names.length);
+        StringBuilder phrase = new StringBuilder();
+
+        int i = 0;
+        while (i < tokens.size()) {
+            int matchedLength = 0;
+            int matchedId = -1;
+
+            int limit = Math.min(maxPhraseLength, tokens.size() - i);
+            phrase.setLength(0);
+            for (int length = 1; length <= limit; length++) {
+                if (length > 1) {
+                    phrase.append(' ');
+                }
+                phrase.append(tokens.get(i + length - 1));
+
+                Integer id = termToId.get(phrase.toString());
+                if (id != null) {
+                    matchedId = id;
+                    matchedLength = length;
+                }
+            }
+
+            if (matchedId >= 0) {
+                found.set(matchedId);
+                i += matchedLength;
+            } else {
+                i++;
+            }
+        }
+        return found;
+    }
+
+    private static List<String> readResource(String path) {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load ATS dictionary " + path, e);
+        }
+        return lines;
+    }
+}
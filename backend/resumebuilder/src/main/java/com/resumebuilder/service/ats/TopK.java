@@ -0,0 +1,49 @@
+package com.resumebuilder.service.ats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the k best-scoring entries seen so far in a bounded min-heap.
+ * Not thread-safe: each worker fills its own and the results are merged.
+ */
+final class TopK {
+
+    // Worst entry at the head; ties broken by id so rankings are deterministic
+    private static final Comparator<RankedResume> WORST_FIRST = Comparator
+            .comparingDouble(RankedResume::getScore)
+            .thenComparing(RankedResume::getResumeId, Comparator.reverseOrder());
+
+    private final int k;
+    private final PriorityQueue<RankedResume> heap;
+
+    TopK(int k) {
+        this.k = k;
+        this.heap = new PriorityQueue<>(k + 1, WORST_FIRST);
+    }
+
+    void offer(RankedResume entry) {
+        if (heap.size() < k) {
+            heap.add(entry);
+        } else if (WORST_FIRST.compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    TopK merge(TopK other) {
+        other.heap.forEach(this::offer);
+        return this;
+    }
+
+    /**
+     * Best first
+     */
+    List<RankedResume> toSortedList() {
+        List<RankedResume> sorted = new ArrayList<>(heap);
+        sorted.sort(WORST_FIRST.reversed());
+        return sorted;
+    }
+}
@@ -0,0 +1,154 @@
+package com.resumebuilder.service.history;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Field-level deltas between two versions of a resume's content.
+ *
+ * A delta works like a JSON Merge Patch: changed fields carry their new value,
+ * removed fields carry null and nested objects hold a delta of their own.
+ * Lists of entries with ids (experience, projects, ...) are diffed per entry,
+ * so editing one bullet stores that entry's changed field and the id order,
+ * not the whole section.
+ */
+public final class ContentDelta {
+
+    // Marks a per-entry list delta; resume content never uses these field names
+    static final String ORDER = "__order";
+    static final String CHANGED = "__changed";
+
+    private ContentDelta() {
+    }
+
+    /**
+     * The delta that turns from into to. Empty when they are equal.
+     */
+    public static Document diff(Document from, Document to) {
+        Document delta = new Document();
+
+        for (String key : from.keySet()) {
+            if (!to.containsKey(key)) {
+                delta.put(key, null);
+            }
+        }
+
+        for (Map.Entry<String, Object> field : to.entrySet()) {
+            String key = field.getKey();
+            Object newValue = field.getValue();
+            Object oldValue = from.get(key);
+
+            if (from.containsKey(key) && Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+
+            if (oldValue instanceof Document oldDoc && newValue instanceof Document newDoc) {
+                delta.put(key, diff(oldDoc, newDoc));
+            } else if (oldValue instanceof List<?> oldList && newValue instanceof List<?> newList) {
+                Map<String, Document> oldEntries = byId(oldList);
+                Map<String, Document> newEntries = byId(newList);
+                delta.put(key, oldEntries != null && newEntries != null
+                        ? diffEntries(oldEntries, newEntries)
+                        : newValue);
+            } else {
+                delta.put(key, newValue);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Apply a delta produced by diff. The base document is not modified.
+     */
+    public static Document apply(Document base, Document delta) {
+        Document result = new Document(base);
+
+        for (Map.Entry<String, Object> field : delta.entrySet()) {
+            String key = field.getKey();
+            Object change = field.getValue();
+            Object current = result.get(key);
+
+            if (change == null) {
+                result.remove(key);
+            } else if (change instanceof Document changeDoc && changeDoc.containsKey(ORDER)) {
+                result.put(key, applyEntries(current instanceof List<?> list ? byId(list) : null, changeDoc));
+            } else if (change instanceof Document changeDoc && current instanceof Document currentDoc) {
+                result.put(key, apply(currentDoc, changeDoc));
+            } else {
+                result.put(key, change);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rough stored size of a document, used to compare deltas with full copies
+     */
+    public static int size(Document document) {
+        return document.toJson().length();
+    }
+
+    private static Document diffEntries(Map<String, Document> from, Map<String, Document> to) {
+        List<Document> changed = new ArrayList<>();
+        for (Map.Entry<String, Document> entry : to.entrySet()) {
+            Document old = from.get(entry.getKey());
+            if (old == null) {
+                changed.add(new Document("id", entry.getKey()).append("value", entry.getValue()));
+            } else if (!old.equals(entry.getValue())) {
+                changed.add(new Document("id", entry.getKey()).append("delta", diff(old, entry.getValue())));
+            }
+        }
+
+        return new Document(ORDER, new ArrayList<>(to.keySet())).append(CHANGED, changed);
+    }
+
+    private static List<Document> applyEntries(Map<String, Document> base, Document change) {
+        Map<String, Document> entries = base == null ? new HashMap<>() : new HashMap<>(base);
+
+        for (Object item : change.getList(CHANGED, Object.class)) {
+            Document changed = (Document) item;
+            String id = changed.getString("id");
+            if (changed.containsKey("value")) {
+                entries.put(id, (Document) changed.get("value"));
+            } else {
+                entries.put(id, apply(entries.getOrDefault(id, new Document()), (Document) changed.get("delta")));
+            }
+        }
+
+        List<Document> result = new ArrayList<>();
+        for (String id : change.getList(ORDER, String.class)) {
+            Document entry = entries.get(id);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Entries keyed by their id, in list order, or null if the list isn't made
+     * of documents with distinct string ids
+     */
+    private static Map<String, Document> byId(List<?> list) {
+        Map<String, Document> entries = new LinkedHashMap<>();
+        for (Object item : list) {
+            String id = item instanceof Document entry ? idOf(entry) : null;
+            if (id == null || entries.putIfAbsent(id, (Document) item) != null) {
+                return null;
+            }
+        }
+        return entries;
+    }
+
+    // The mapping layer stores an entry's id property as _id
+    private static String idOf(Document entry) {
+        Object id = entry.containsKey("_id") ? entry.get("_id") : entry.get("id");
+        return id instanceof String value ? value : null;
+    }
+}
@@ -0,0 +1,390 @@
+package com.resumebuilder.service.history;
+
+import com.resumebuilder.dto.ResumeRequest;
+import com.resumebuilder.dto.ResumeVersionInfo;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeVersion;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the edit history of each resume in the resume_versions collection.
+ *
+ * Each save stores only what changed since the previous entry (see ContentDelta),
+ * with a full checkpoint every few entries so any version is rebuilt from at most
+ * checkpoint-interval documents. Saves that land within merge-window-ms of the
+ * latest entry are folded into one entry for the rest of the window, so an
+ * autosaving editor produces two entries per window rather than one per
+ * keystroke: the first save is never overwritten and stays a rollback point.
+ * Old entries are pruned in the background.
+ *
+ * Entries are written off the request path, from the saved document itself, one
+ * worker per resume at a time; saves that queue up behind a running one are
+ * coalesced to the newest. History is best effort: a failure here is logged and
+ * never fails the save.
+ */
+@Service
+public class ResumeHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeHistoryService.class);
+
+    private static final String COLLECTION = "resume_versions";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    @Qualifier("historyExecutor")
+    private TaskExecutor executor;
+
+    @Value("${resume.history.enabled:true}")
+    private boolean enabled;
+
+    @Value("${resume.history.checkpoint-interval:20}")
+    private int checkpointInterval;
+
+    @Value("${resume.history.merge-window-ms:300000}")
+    private long mergeWindowMs;
+
+    @Value("${resume.history.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${resume.history.min-versions:10}")
+    private int minVersions;
+
+    @Value("${resume.history.max-pending:10000}")
+    private int maxPending;
+
+    // Resume id -> newest saved state not yet recorded
+    private final Map<String, Resume> pending = new ConcurrentHashMap<>();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a resume's state, as written by a save, to be recorded in the background
+     */
+    public void record(Resume resume) {
+        if (!enabled) {
+            return;
+        }
+        String id = resume.getId();
+        if (pending.size() >= maxPending && !pending.containsKey(id)) {
+            logger.warn("History queue full, skipped version {} of resume {}", resume.getVersion(), id);
+            return;
+        }
+        pending.merge(id, resume, (queued, saved) -> saved.getVersion() >= queued.getVersion() ? saved : queued);
+        dispatch(id);
+    }
+
+    /**
+     * Versions of a resume, newest first, without their content
+     */
+    public List<ResumeVersionInfo> listVersions(String resumeId, Long beforeVersion, int limit) {
+        Criteria criteria = Criteria.where("resumeId").is(resumeId);
+        if (beforeVersion != null) {
+            criteria = criteria.and("version").lt(beforeVersion);
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "version"))
+                .limit(limit);
+        query.fields().include("version", "checkpoint", "size", "createdAt", "updatedAt");
+
+        return mongoTemplate.find(query, ResumeVersionInfo.class, COLLECTION);
+    }
+
+    /**
+     * The resume content as it was at the given version
+     */
+    public ResumeRequest getVersion(String resumeId, long version) {
+        List<ResumeVersion> chain = loadChain(resumeId, version);
+        if (chain.isEmpty() || chain.get(0).getVersion() != version) {
+            throw new RuntimeException("Version not found");
+        }
+        return mongoTemplate.getConverter().read(ResumeRequest.class, rebuild(chain, chain.size()));
+    }
+
+    /**
+     * Drop a deleted resume's history, including saves still queued for it
+     */
+    public void deleteHistory(String resumeId) {
+        pending.remove(resumeId);
+        mongoTemplate.remove(new Query(Criteria.where("resumeId").is(resumeId)), ResumeVersion.class);
+    }
+
+    /**
+     * Drop entries past the retention period, keeping at least min-versions per
+     * resume. The oldest kept entry is rewritten as a checkpoint before anything
+     * older is deleted, so every remaining version can still be rebuilt.
+     */
+    @Scheduled(fixedDelayString = "${resume.history.prune-interval-ms:3600000}",
+            initialDelayString = "${resume.history.prune-interval-ms:3600000}")
+    public void prune() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(Duration.ofDays(retentionDays));
+        List<String> resumeIds = mongoTemplate.findDistinct(
+                new Query(Criteria.where("createdAt").lt(cutoff)), "resumeId", ResumeVersion.class, String.class);
+
+        for (String resumeId : resumeIds) {
+            try {
+                pruneResume(resumeId, cutoff);
+            } catch (Exception e) {
+                logger.warn("Could not prune history for resume {}: {}", resumeId, e.getMessage());
+            }
+        }
+    }
+
+    // ---------- Internals ----------
+
+    private void dispatch(String id) {
+        if (!running.add(id)) {
+            return; // The worker on this resume picks it up
+        }
+        try {
+            executor.execute(() -> drain(id));
+        } catch (RuntimeException e) {
+            running.remove(id);
+            pending.remove(id);
+            logger.warn("Could not queue history for resume {}: {}", id, e.getMessage());
+        }
+    }
+
+    private void drain(String id) {
+        try {
+            Resume resume;
+            while ((resume = pending.remove(id)) != null) {
+                try {
+                    recordVersion(resume);
+                } catch (Exception e) {
+                    logger.warn("Could not record history for resume {}: {}", id, e.getMessage());
+                }
+            }
+        } finally {
+            running.remove(id);
+            // A save may have queued after the last check but before the worker let go
+            if (pending.containsKey(id)) {
+                dispatch(id);
+            }
+        }
+    }
+
+    private void recordVersion(Resume resume) {
+        if (!resumeExists(resume.getId())) {
+            return; // Deleted after the save; prune keeps min-versions, so it would never go
+        }
+        Document content = content(resume);
+        List<ResumeVersion> chain = loadChain(resume.getId(), null);
+        Instant now = Instant.now();
+
+        if (chain.isEmpty()) {
+            insert(newVersion(resume, null, true, content, now));
+            return;
+        }
+
+        ResumeVersion latest = chain.get(0);
+        if (resume.getVersion() <= latest.getVersion()) {
+            return; // A newer save was recorded already
+        }
+
+        Document latestContent = rebuild(chain, chain.size());
+        Document delta = ContentDelta.diff(latestContent, content);
+        if (delta.isEmpty()) {
+            return; // Nothing changed since the latest entry
+        }
+
+        boolean withinWindow = latest.getCreatedAt() != null
+                && latest.getCreatedAt().isAfter(now.minusMillis(mergeWindowMs));
+        if (withinWindow && latest.isMergeTarget()) {
+            merge(latest, chain, resume.getVersion(), content, now);
+            return;
+        }
+
+        // Checkpoint when the chain would grow past the interval, or when the delta
+        // is about as big as the content anyway
+        boolean checkpoint = chain.size() >= checkpointInterval
+                || ContentDelta.size(delta) * 2 >= ContentDelta.size(content);
+
+        ResumeVersion entry = newVersion(resume, latest.getVersion(), checkpoint, checkpoint ? content : delta, now);
+        // The latest entry stays as it is; this one takes the rest of its window's saves
+        entry.setMergeTarget(withinWindow);
+        insert(entry);
+    }
+
+    /**
+     * Fold a save into the latest entry, a merge target, which then rebuilds to
+     * the new content. Only applies if that entry is unchanged since it was read.
+     */
+    private void merge(ResumeVersion latest, List<ResumeVersion> chain, long version, Document content, Instant now) {
+        Document stored = latest.isCheckpoint()
+                ? content
+                : ContentDelta.diff(rebuild(chain.subList(1, chain.size()), chain.size() - 1), content);
+
+        Query query = new Query(Criteria.where("_id").is(latest.getId())
+                .and("version").is(latest.getVersion())
+                .and("checkpoint").is(latest.isCheckpoint()));
+        Update update = new Update()
+                .set("version", version)
+                .set("content", stored)
+                .set("size", ContentDelta.size(stored))
+                .set("updatedAt", now);
+
+        mongoTemplate.updateFirst(query, update, ResumeVersion.class);
+    }
+
+    private boolean resumeExists(String resumeId) {
+        return mongoTemplate.exists(new Query(Criteria.where("_id").is(resumeId)), Resume.class);
+    }
+
+    private void insert(ResumeVersion version) {
+        try {
+            mongoTemplate.insert(version);
+            // The resume may have been deleted, and its history with it, while this was written
+            if (!resumeExists(version.getResumeId())) {
+                deleteHistory(version.getResumeId());
+            }
+        } catch (DuplicateKeyException e) {
+            // Another save of the same resume got its entry in first; the next save diffs against it
+            logger.debug("Skipped history entry for resume {}: concurrent save", version.getResumeId());
+        }
+    }
+
+    private void pruneResume(String resumeId, Instant cutoff) {
+        Query query = new Query(Criteria.where("resumeId").is(resumeId))
+                .with(Sort.by(Sort.Direction.ASC, "version"));
+        query.fields().include("version", "checkpoint", "createdAt");
+        List<ResumeVersion> entries = mongoTemplate.find(query, ResumeVersion.class);
+
+        int firstRecent = 0;
+        while (firstRecent < entries.size() && entries.get(firstRecent).getCreatedAt() != null
+                && entries.get(firstRecent).getCreatedAt().isBefore(cutoff)) {
+            firstRecent++;
+        }
+        int keepFrom = Math.min(firstRecent, Math.max(0, entries.size() - minVersions));
+        if (keepFrom == 0) {
+            return;
+        }
+
+        ResumeVersion oldestKept = entries.get(keepFrom);
+        if (!oldestKept.isCheckpoint()) {
+            List<ResumeVersion> chain = loadChain(resumeId, oldestKept.getVersion());
+            Document content = rebuild(chain, chain.size());
+
+            Query unchanged = new Query(Criteria.where("_id").is(oldestKept.getId())
+                    .and("version").is(oldestKept.getVersion()));
+            Update update = new Update()
+                    .set("checkpoint", true)
+                    .set("content", content)
+                    .set("size", ContentDelta.size(content));
+            if (mongoTemplate.updateFirst(unchanged, update, ResumeVersion.class).getModifiedCount() == 0) {
+                return; // A save was merged into it meanwhile; try again next round
+            }
+        }
+
+        mongoTemplate.remove(new Query(Criteria.where("resumeId").is(resumeId)
+                .and("version").lt(oldestKept.getVersion())), ResumeVersion.class);
+    }
+
+    /**
+     * Entries from the given version (or the latest) back to the nearest
+     * checkpoint, newest first
+     */
+    private List<ResumeVersion> loadChain(String resumeId, Long upToVersion) {
+        Criteria criteria = Criteria.where("resumeId").is(resumeId);
+        if (upToVersion != null) {
+            criteria = criteria.and("version").lte(upToVersion);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.DESC, "version"));
+
+        List<ResumeVersion> chain = new ArrayList<>();
+        try (Stream<ResumeVersion> stream = mongoTemplate.stream(query, ResumeVersion.class)) {
+            Iterator<ResumeVersion> entries = stream.iterator();
+            while (entries.hasNext()) {
+                ResumeVersion entry = entries.next();
+                chain.add(entry);
+                if (entry.isCheckpoint()) {
+                    return chain;
+                }
+            }
+        }
+        if (!chain.isEmpty()) {
+            throw new IllegalStateException("History has no checkpoint");
+        }
+        return chain;
+    }
+
+    /**
+     * Content at chain.get(0), from the first count entries of a newest-first
+     * chain that ends in a checkpoint
+     */
+    private static Document rebuild(List<ResumeVersion> chain, int count) {
+        Document content = chain.get(count - 1).getContent();
+        for (int i = count - 2; i >= 0; i--) {
+            content = ContentDelta.apply(content, chain.get(i).getContent());
+        }
+        return content;
+    }
+
+    private Document content(Resume resume) {
+        ResumeRequest request = new ResumeRequest();
+        request.setPersonalInfo(resume.getPersonalInfo());
+        request.setExperience(resume.getExperience());
+        request.setEducation(resume.getEducation());
+        request.setProjects(resume.getProjects());
+        request.setSocialLinks(resume.getSocialLinks());
+        request.setCertifications(resume.getCertifications());
+        request.setLanguages(resume.getLanguages());
+        request.setSkills(resume.getSkills());
+        request.setCoverLetter(resume.getCoverLetter());
+        request.setThemeColor(resume.getThemeColor());
+        request.setTemplate(resume.getTemplate());
+
+        Document content = new Document();
+        mongoTemplate.getConverter().write(request, content);
+        content.remove("_class");
+        return content;
+    }
+
+    private static ResumeVersion newVersion(Resume resume, Long baseVersion, boolean checkpoint,
+                                            Document content, Instant now) {
+        ResumeVersion version = new ResumeVersion();
+        version.setResumeId(resume.getId());
+        version.setUserEmail(resume.getUserEmail());
+        version.setVersion(resume.getVersion());
+        version.setBaseVersion(baseVersion);
+        version.setCheckpoint(checkpoint);
+        version.setContent(content);
+        version.setSize(ContentDelta.size(content));
+        version.setCreatedAt(now);
+        version.setUpdatedAt(now);
+        return version;
+    }
+}
@@ -0,0 +1,173 @@
+package com.resumebuilder.service.importer;
+
+import com.itextpdf.text.io.RandomAccessSourceFactory;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.RandomAccessFileOrArray;
+import com.itextpdf.text.pdf.parser.LocationTextExtractionStrategy;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Pulls the text lines out of an uploaded PDF or DOCX, page by page or
+ * paragraph by paragraph, and stops once the character budget is spent
+ */
+final class DocumentTextExtractor {
+
+    private static final XMLInputFactory XML_FACTORY = XMLInputFactory.newFactory();
+
+    // Characters copied out of a text run at a time
+    private static final int TEXT_CHUNK = 4096;
+
+    static {
+        // Word documents never need DTDs; refusing them rules out entity expansion attacks
+        XML_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private DocumentTextExtractor() {
+    }
+
+    /**
+     * PDF text in reading order. The file is opened for partial reading, so only
+     * the objects of the page being extracted are held in memory.
+     */
+    static List<String> pdfLines(Path file, int maxPages, int maxChars) throws IOException {
+        Lines lines = new Lines(maxChars);
+
+        RandomAccessFileOrArray source = new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createBestSource(file.toString()));
+        PdfReader reader = new PdfReader(source, null);
+        try {
+            int pages = Math.min(reader.getNumberOfPages(), maxPages);
+            for (int page = 1; page <= pages && !lines.full(); page++) {
+                String text = PdfTextExtractor.getTextFromPage(reader, page, new LocationTextExtractionStrategy());
+                for (String line : text.split("\\r?\\n")) {
+                    lines.add(line);
+                }
+                reader.releasePage(page);
+            }
+        } finally {
+            reader.close();
+        }
+        return lines.values;
+    }
+
+    /**
+     * DOCX body text, one line per paragraph, streamed from word/document.xml
+     */
+    static List<String> docxLines(Path file, int maxChars) throws IOException {
+        Lines lines = new Lines(maxChars);
+
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry document = zip.getEntry("word/document.xml");
+            if (document == null) {
+                throw new IOException("Not a Word document");
+            }
+
+            try (InputStream in = zip.getInputStream(document)) {
+                XMLStreamReader xml = XML_FACTORY.createXMLStreamReader(in);
+                StringBuilder paragraph = new StringBuilder();
+                char[] chunk = new char[TEXT_CHUNK];
+                try {
+                    while (xml.hasNext() && !lines.full()) {
+                        int event = xml.next();
+                        if (event == XMLStreamConstants.START_ELEMENT) {
+                            switch (xml.getLocalName()) {
+                                case "t" -> appendText(xml, paragraph, lines.remaining(), chunk);
+                                case "tab" -> {
+                                    if (paragraph.length() < lines.remaining()) {
+                                        paragraph.append('\t');
+                                    }
+                                }
+                                case "br", "cr" -> {
+                                    lines.add(paragraph.toString());
+                                    paragraph.setLength(0);
+                                }
+                                default -> { }
+                            }
+                        } else if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("p")) {
+                            lines.add(paragraph.toString());
+                            paragraph.setLength(0);
+                        }
+                    }
+                } finally {
+                    xml.close();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed Word document", e);
+        }
+        return lines.values;
+    }
+
+    /**
+     * Append the text of the w:t element the reader is on, in chunks, stopping
+     * once the paragraph reaches limit. The rest of the element is skipped
+     * unread, so one huge text run never has to fit in memory.
+     */
+    private static void appendText(XMLStreamReader xml, StringBuilder paragraph, int limit, char[] chunk)
+            throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                int offset = 0;
+                while (paragraph.length() < limit) {
+                    int read = xml.getTextCharacters(offset, chunk, 0,
+                            Math.min(chunk.length, limit - paragraph.length()));
+                    if (read <= 0) {
+                        break;
+                    }
+                    paragraph.append(chunk, 0, read);
+                    offset += read;
+                }
+            }
+        }
+    }
+
+    private static final class Lines {
+
+        private final List<String> values = new ArrayList<>();
+        private int remaining;
+
+        Lines(int maxChars) {
+            this.remaining = maxChars;
+        }
+
+        void add(String line) {
+            String text = line.replace('\u00a0', ' ').strip();
+            if (text.isEmpty() || full()) {
+                return;
+            }
+            if (text.length() > remaining) {
+                text = text.substring(0, remaining);
+            }
+            values.add(text);
+            remaining -= text.length();
+        }
+
+        boolean full() {
+            return remaining <= 0;
+        }
+
+        int remaining() {
+            return remaining;
+        }
+    }
+}
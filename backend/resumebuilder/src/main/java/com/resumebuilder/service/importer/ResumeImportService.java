@@ -0,0 +1,112 @@
+package com.resumebuilder.service.importer;
+
+import com.resumebuilder.dto.ResumeRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Turns an uploaded PDF or DOCX resume into resume fields, without saving anything.
+ * The upload is spooled to a temp file so neither format is read into memory whole.
+ */
+@Service
+public class ResumeImportService {
+
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F'};
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${resume.import.max-pages:10}")
+    private int maxPages;
+
+    @Value("${resume.import.max-chars:100000}")
+    private int maxChars;
+
+    public ResumeRequest importResume(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("No file uploaded");
+        }
+
+        String type = detectType(file);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("resume-import-", "." + type);
+            file.transferTo(temp);
+
+            List<String> lines = type.equals("pdf")
+                    ? DocumentTextExtractor.pdfLines(temp, maxPages, maxChars)
+                    : DocumentTextExtractor.docxLines(temp, maxChars);
+            if (lines.isEmpty()) {
+                throw new RuntimeException("No text found in the document; scanned resumes are not supported");
+            }
+
+            ResumeRequest parsed = ResumeSectionParser.parse(lines);
+            outcome = "success";
+            return parsed;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read the uploaded " + type.toUpperCase(Locale.ROOT) + ": " + e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("resume.import")
+                    .description("Time spent extracting and parsing uploaded resumes")
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Go by the file's first bytes rather than the name or declared content type
+     */
+    private static String detectType(MultipartFile file) {
+        byte[] head = new byte[4];
+        int read;
+        try (InputStream in = file.getInputStream()) {
+            read = in.readNBytes(head, 0, head.length);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read the uploaded file");
+        }
+
+        if (read == 4 && startsWith(head, PDF_MAGIC)) {
+            return "pdf";
+        }
+        if (read == 4 && startsWith(head, ZIP_MAGIC)) {
+            return "docx";
+        }
+        throw new RuntimeException("Unsupported file type: upload a PDF or DOCX resume");
+    }
+
+    private static boolean startsWith(byte[] head, byte[] magic) {
+        for (int i = 0; i < magic.length; i++) {
+            if (head[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp != null) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // The temp directory is cleaned up by the OS eventually
+            }
+        }
+    }
+}
@@ -0,0 +1,584 @@
+package com.resumebuilder.service.importer;
+
+import com.resumebuilder.dto.ResumeRequest;
+import com.resumebuilder.model.Resume;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rule-based segmenter that turns the text lines of a resume into resume fields.
+ *
+ * Lines before the first recognised heading are the header (name, title,
+ * contact details). Experience and education entries are anchored on their
+ * date ranges; projects and undated entries are split on title-like lines.
+ */
+public final class ResumeSectionParser {
+
+    private static final int MAX_ENTRIES = 50;
+    private static final int MAX_LIST_ITEMS = 100;
+
+    enum Section { HEADER, SUMMARY, EXPERIENCE, EDUCATION, PROJECTS, SKILLS, CERTIFICATIONS, LANGUAGES, OTHER }
+
+    // Headings as printed, lower-cased with punctuation removed
+    private static final Map<String, Section> HEADINGS = new LinkedHashMap<>();
+
+    static {
+        heading(Section.SUMMARY, "summary", "my summary", "professional summary", "profile", "professional profile",
+                "objective", "career objective", "about", "about me", "career summary");
+        heading(Section.EXPERIENCE, "experience", "work experience", "professional experience", "employment",
+                "employment history", "work history", "internships", "internship", "relevant experience");
+        heading(Section.EDUCATION, "education", "academic background", "academics", "educational background",
+                "education and training");
+        heading(Section.PROJECTS, "projects", "personal projects", "key projects", "academic projects",
+                "selected projects");
+        heading(Section.SKILLS, "skills", "my skills", "technical skills", "key skills", "core competencies",
+                "technologies", "tech stack", "skills and tools", "tools");
+        heading(Section.CERTIFICATIONS, "certifications", "certificates", "certification", "licenses and certifications",
+                "courses");
+        heading(Section.LANGUAGES, "languages", "spoken languages");
+        heading(Section.OTHER, "achievements", "awards", "interests", "hobbies", "references", "publications",
+                "volunteering", "activities", "extracurricular activities");
+    }
+
+    private static void heading(Section section, String... names) {
+        for (String name : names) {
+            HEADINGS.put(name, section);
+        }
+    }
+
+    private static final String MONTH = "(?:jan|feb|mar|apr|may|jun|jul|aug|sep|sept|oct|nov|dec)[a-z]*\\.?";
+    private static final String DATE = "(?:" + MONTH + "\\s*,?\\s*\\d{4}|\\d{1,2}[/.-]\\d{4}|\\d{4}[/.-]\\d{1,2}|\\d{4})";
+    private static final String OPEN_END = "(?:present|current|now|today|till date|ongoing)";
+
+    private static final Pattern DATE_RANGE = Pattern.compile(
+            "(" + DATE + ")\\s*(?:-|–|—|to|until)\\s*(" + DATE + "|" + OPEN_END + ")", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TRAILING_DATE = Pattern.compile("(" + DATE + ")\\s*$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern OPEN_END_ONLY = Pattern.compile(OPEN_END, Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+(?:\\.[\\w-]+)+");
+    private static final Pattern PHONE = Pattern.compile("\\+?[\\d][\\d\\s().-]{6,18}\\d");
+    private static final Pattern URL = Pattern.compile(
+            "(?:https?://|www\\.)\\S+|\\b(?:linkedin\\.com|github\\.com|gitlab\\.com)/\\S+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LOCATION = Pattern.compile("[A-Za-z][A-Za-z .'-]+,\\s*[A-Za-z][A-Za-z .'-]+");
+
+    private static final Pattern BULLET = Pattern.compile("^[•●▪◦‣○■□►➢✓*·-]\\s*");
+    private static final Pattern HEADER_SEPARATOR = Pattern.compile("\\s*[|•·]\\s*|\\s{2,}|\\t");
+    private static final Pattern TITLE_SEPARATOR = Pattern.compile("\\s*\\|\\s*|\\s+[–—-]\\s+|\\s{2,}|\\t|\\s+at\\s+|\\s*,\\s+(?=\\S+$)");
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("\\s*[,;|•·]\\s*|\\t");
+    private static final Pattern LABEL = Pattern.compile("^[A-Za-z][A-Za-z /&+-]{0,30}:\\s*");
+    private static final Pattern NON_WORD = Pattern.compile("[^a-z ]+");
+
+    private static final Pattern ROLE_WORDS = Pattern.compile(
+            "\\b(engineer|developer|intern|manager|analyst|lead|designer|consultant|architect|scientist|specialist|"
+                    + "administrator|officer|director|associate|head|coordinator|assistant|executive|programmer|"
+                    + "founder|president|trainee|tester|technician|researcher|teacher|owner)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern DEGREE_WORDS = Pattern.compile(
+            "\\b(bachelor|master|b\\.?\\s?sc|m\\.?\\s?sc|b\\.?\\s?tech|m\\.?\\s?tech|b\\.?\\s?e|m\\.?\\s?e|b\\.?\\s?a|m\\.?\\s?a|"
+                    + "bca|mca|bba|mba|ph\\.?\\s?d|diploma|degree|associate|high school|secondary|hsc|ssc|"
+                    + "certificate|b\\.?\\s?s|m\\.?\\s?s)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern SCHOOL_WORDS = Pattern.compile(
+            "\\b(university|college|institute|school|academy|polytechnic|iit|nit)\\b", Pattern.CASE_INSENSITIVE);
+
+    private ResumeSectionParser() {
+    }
+
+    /**
+     * Fill resume fields from the document's lines in reading order
+     */
+    public static ResumeRequest parse(List<String> lines) {
+        Map<Section, List<String>> sections = segment(lines);
+
+        ResumeRequest request = new ResumeRequest();
+        Resume.PersonalInfo info = new Resume.PersonalInfo();
+        List<Resume.SocialLink> links = new ArrayList<>();
+        parseHeader(sections.getOrDefault(Section.HEADER, List.of()), info, links);
+
+        List<String> summary = sections.get(Section.SUMMARY);
+        if (summary != null) {
+            info.setSummary(joinParagraph(summary));
+        }
+
+        request.setPersonalInfo(info);
+        request.setSocialLinks(links);
+        request.setExperience(parseExperience(sections.getOrDefault(Section.EXPERIENCE, List.of())));
+        request.setEducation(parseEducation(sections.getOrDefault(Section.EDUCATION, List.of())));
+        request.setProjects(parseProjects(sections.getOrDefault(Section.PROJECTS, List.of())));
+        request.setSkills(parseList(sections.getOrDefault(Section.SKILLS, List.of()), true));
+        request.setCertifications(parseList(sections.getOrDefault(Section.CERTIFICATIONS, List.of()), false));
+        request.setLanguages(parseList(sections.getOrDefault(Section.LANGUAGES, List.of()), true));
+        return request;
+    }
+
+    // ---------- Segmenting ----------
+
+    static Map<Section, List<String>> segment(List<String> lines) {
+        Map<Section, List<String>> sections = new LinkedHashMap<>();
+        Section current = Section.HEADER;
+
+        for (String raw : lines) {
+            String line = raw.strip();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            Section heading = headingOf(line);
+            if (heading != null) {
+                current = heading;
+                continue;
+            }
+
+            // "Skills: Java, Spring" style labels; inside skills, "Languages:" names a skill group instead
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                Section labelled = HEADINGS.get(normalize(line.substring(0, colon)));
+                String rest = line.substring(colon + 1).strip();
+                boolean skillGroup = current == Section.SKILLS
+                        && (labelled == Section.SKILLS || labelled == Section.LANGUAGES);
+                if (labelled != null && !rest.isEmpty() && !skillGroup) {
+                    current = labelled;
+                    line = rest;
+                }
+            }
+
+            sections.computeIfAbsent(current, key -> new ArrayList<>()).add(line);
+        }
+        return sections;
+    }
+
+    static Section headingOf(String line) {
+        if (line.length() > 40 || line.indexOf('@') >= 0 || line.chars().anyMatch(Character::isDigit)) {
+            return null;
+        }
+        String normalized = normalize(line);
+        if (normalized.isEmpty() || normalized.split(" ").length > 5) {
+            return null;
+        }
+
+        Section section = HEADINGS.get(normalized);
+        if (section != null) {
+            return section;
+        }
+
+        // Unlisted all-caps headings such as "TECHNICAL SKILLS & TOOLS"
+        if (line.equals(line.toUpperCase(Locale.ROOT))) {
+            for (Map.Entry<String, Section> entry : HEADINGS.entrySet()) {
+                if (entry.getKey().indexOf(' ') < 0 && normalized.contains(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String text) {
+        String lower = text.toLowerCase(Locale.ROOT).replace("&", " and ");
+        return NON_WORD.matcher(lower).replaceAll(" ").strip().replaceAll("\\s+", " ");
+    }
+
+    // ---------- Header ----------
+
+    private static void parseHeader(List<String> lines, Resume.PersonalInfo info, List<Resume.SocialLink> links) {
+        for (String line : lines) {
+            for (String segment : HEADER_SEPARATOR.split(line)) {
+                segment = segment.strip();
+                if (segment.isEmpty()) {
+                    continue;
+                }
+
+                Matcher email = EMAIL.matcher(segment);
+                Matcher url = URL.matcher(segment);
+                if (url.find() && !email.find(0)) {
+                    addLink(url.group(), info, links);
+                } else if (email.find(0)) {
+                    if (info.getEmail() == null) {
+                        info.setEmail(email.group());
+                    }
+                } else if (PHONE.matcher(segment).matches() && digits(segment) >= 8) {
+                    if (info.getPhone() == null) {
+                        info.setPhone(segment);
+                    }
+                } else if (info.getFullName() == null && looksLikeName(segment)) {
+                    info.setFullName(segment);
+                } else if (info.getLocation() == null && LOCATION.matcher(segment).matches()) {
+                    info.setLocation(segment);
+                } else if (info.getFullName() != null && info.getJobTitle() == null && segment.length() <= 80) {
+                    info.setJobTitle(segment);
+                }
+            }
+        }
+    }
+
+    private static void addLink(String url, Resume.PersonalInfo info, List<Resume.SocialLink> links) {
+        String lower = url.toLowerCase(Locale.ROOT);
+        String platform = lower.contains("linkedin.") ? "LinkedIn"
+                : lower.contains("github.") ? "GitHub"
+                : lower.contains("gitlab.") ? "GitLab"
+                : "Website";
+
+        Resume.SocialLink link = new Resume.SocialLink();
+        link.setId(newId());
+        link.setPlatform(platform);
+        link.setUrl(url);
+        links.add(link);
+
+        if (info.getWebsite() == null || platform.equals("LinkedIn") && !info.getWebsite().contains("linkedin.")) {
+            info.setWebsite(url);
+        }
+    }
+
+    private static boolean looksLikeName(String text) {
+        String[] words = text.split("\\s+");
+        return words.length >= 1 && words.length <= 5 && text.length() <= 60
+                && text.chars().allMatch(c -> Character.isLetter(c) || c == ' ' || c == '.' || c == '\'' || c == '-');
+    }
+
+    private static int digits(String text) {
+        return (int) text.chars().filter(Character::isDigit).count();
+    }
+
+    // ---------- Dated entries ----------
+
+    private static List<Resume.Experience> parseExperience(List<String> lines) {
+        List<Resume.Experience> experience = new ArrayList<>();
+        for (Entry entry : entries(lines, false)) {
+            List<String> parts = titleParts(entry.titles);
+
+            String position = firstMatching(parts, ROLE_WORDS);
+            String company = firstOther(parts, position);
+            if (position == null && !parts.isEmpty()) {
+                position = parts.get(0);
+                company = parts.size() > 1 ? parts.get(1) : null;
+            }
+
+            Resume.Experience exp = new Resume.Experience();
+            exp.setId(newId());
+            exp.setPosition(position);
+            exp.setCompany(company);
+            exp.setStartDate(entry.start);
+            exp.setCurrent(entry.current);
+            exp.setEndDate(entry.current ? "Present" : entry.end);
+            exp.setDescription(description(entry.body));
+            experience.add(exp);
+        }
+        return experience;
+    }
+
+    private static List<Resume.Education> parseEducation(List<String> lines) {
+        List<Resume.Education> education = new ArrayList<>();
+        for (Entry entry : entries(lines, true)) {
+            List<String> parts = splitDegreeAndSchool(titleParts(entry.titles));
+
+            String degree = firstMatching(parts, DEGREE_WORDS);
+            String school = firstMatching(parts, SCHOOL_WORDS);
+            if (school == null || school.equals(degree)) {
+                school = firstOther(parts, degree);
+            }
+            if (degree == null) {
+                degree = firstOther(parts, school);
+            }
+
+            Resume.Education edu = new Resume.Education();
+            edu.setId(newId());
+            edu.setDegree(degree);
+            edu.setSchool(school);
+            edu.setStartDate(entry.start);
+            edu.setEndDate(entry.current ? "Present" : entry.end);
+            edu.setDescription(description(entry.body));
+            education.add(edu);
+        }
+        return education;
+    }
+
+    /**
+     * "MS Computer Science, Stanford University" on one line is two parts
+     */
+    private static List<String> splitDegreeAndSchool(List<String> parts) {
+        List<String> split = new ArrayList<>();
+        for (String part : parts) {
+            int comma = part.indexOf(", ");
+            if (comma > 0 && DEGREE_WORDS.matcher(part.substring(0, comma)).find()
+                    && SCHOOL_WORDS.matcher(part.substring(comma + 2)).find()) {
+                split.add(part.substring(0, comma));
+                split.add(part.substring(comma + 2));
+            } else {
+                split.add(part);
+            }
+        }
+        return split;
+    }
+
+    /**
+     * Split a section into entries. Each date range anchors one entry: the lines
+     * just above it (and the rest of its own line) are the entry's title, the
+     * lines below it up to the next entry's title are its body.
+     */
+    static List<Entry> entries(List<String> lines, boolean singleDates) {
+        List<Integer> anchors = new ArrayList<>();
+        List<Matcher> dates = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (isBullet(lines.get(i))) {
+                continue;
+            }
+            Matcher range = DATE_RANGE.matcher(lines.get(i));
+            if (range.find()) {
+                anchors.add(i);
+                dates.add(range);
+            } else if (singleDates) {
+                Matcher single = TRAILING_DATE.matcher(lines.get(i));
+                if (single.find()) {
+                    anchors.add(i);
+                    dates.add(single);
+                }
+            }
+        }
+
+        if (anchors.isEmpty()) {
+            return blocks(lines);
+        }
+
+        boolean bulleted = lines.stream().anyMatch(ResumeSectionParser::isBullet);
+        List<Entry> entries = new ArrayList<>();
+        int consumed = 0;
+
+        for (int k = 0; k < anchors.size() && entries.size() < MAX_ENTRIES; k++) {
+            int anchor = anchors.get(k);
+            Matcher date = dates.get(k);
+            String line = lines.get(anchor);
+            String remainder = stripSeparators(line.substring(0, date.start()) + " " + line.substring(date.end()));
+
+            Entry entry = new Entry();
+            int need = remainder.isEmpty() ? 2 : 1;
+            int j = anchor - 1;
+            // The first entry owns everything above it; later ones take a title line or two
+            while (j >= consumed && (k == 0 || entry.titles.size() < need) && !isBullet(lines.get(j))) {
+                entry.titles.add(0, lines.get(j));
+                j--;
+            }
+            if (!entries.isEmpty()) {
+                entries.get(entries.size() - 1).body.addAll(lines.subList(consumed, j + 1));
+            }
+            if (!remainder.isEmpty()) {
+                entry.titles.add(remainder);
+            }
+
+            if (date.groupCount() >= 2 && date.group(2) != null) {
+                entry.start = date.group(1).strip();
+                entry.end = date.group(2).strip();
+            } else {
+                entry.end = date.group(1).strip();
+            }
+            entry.current = entry.end != null && OPEN_END_ONLY.matcher(entry.end).matches();
+
+            entries.add(entry);
+            consumed = anchor + 1;
+        }
+        entries.get(entries.size() - 1).body.addAll(lines.subList(consumed, lines.size()));
+
+        // "Company  Jan 2020 - Present" followed by the position on the next line
+        for (Entry entry : entries) {
+            if (entry.titles.size() < 2 && !entry.body.isEmpty()) {
+                String next = entry.body.get(0);
+                if (!isBullet(next) && next.split("\\s+").length <= 8 && (bulleted || !next.endsWith("."))) {
+                    entry.titles.add(entry.body.remove(0));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Undated entries: a title of at most two short lines, then the body. Once an
+     * entry has a body, a short line opens the next entry if the body was bulleted
+     * or the line is followed by a bullet or a "role | link" style subtitle.
+     */
+    private static List<Entry> blocks(List<String> lines) {
+        List<Entry> entries = new ArrayList<>();
+        Entry current = null;
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            boolean titleLike = !isBullet(line) && line.split("\\s+").length <= 8 && !line.endsWith(".");
+
+            boolean startsEntry = titleLike && (current == null
+                    || (!current.body.isEmpty() && (current.bulleted || opensEntry(line, lines, i + 1))));
+            if (startsEntry) {
+                if (entries.size() >= MAX_ENTRIES) {
+                    break;
+                }
+                current = new Entry();
+                entries.add(current);
+                current.titles.add(line);
+            } else if (titleLike && current.body.isEmpty() && current.titles.size() < 2) {
+                current.titles.add(line);
+            } else {
+                if (current == null) {
+                    current = new Entry();
+                    entries.add(current);
+                }
+                current.bulleted |= isBullet(line);
+                current.body.add(line);
+            }
+        }
+        return entries;
+    }
+
+    private static boolean opensEntry(String line, List<String> lines, int next) {
+        if (line.contains("|") || URL.matcher(line).find()) {
+            return true;
+        }
+        if (next >= lines.size()) {
+            return false;
+        }
+        String following = lines.get(next);
+        return isBullet(following) || following.contains("|") || URL.matcher(following).find();
+    }
+
+    private static List<Resume.Project> parseProjects(List<String> lines) {
+        List<Resume.Project> projects = new ArrayList<>();
+        for (Entry entry : blocks(lines)) {
+            String link = null;
+            List<String> parts = new ArrayList<>();
+            for (String part : titleParts(entry.titles)) {
+                Matcher url = URL.matcher(part);
+                if (url.find()) {
+                    if (link == null) {
+                        link = url.group();
+                    }
+                    part = stripSeparators(url.replaceAll(""));
+                }
+                if (!part.isEmpty()) {
+                    parts.add(part);
+                }
+            }
+
+            Resume.Project project = new Resume.Project();
+            project.setId(newId());
+            project.setName(parts.isEmpty() ? null : parts.get(0));
+            project.setRole(parts.size() > 1 ? parts.get(1) : null);
+            project.setLink(link);
+            project.setDescription(description(entry.body));
+            project.setType("Key");
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    // ---------- Lists and text ----------
+
+    private static List<String> parseList(List<String> lines, boolean dropLabels) {
+        Set<String> seen = new LinkedHashSet<>();
+        List<String> items = new ArrayList<>();
+
+        for (String line : lines) {
+            String text = BULLET.matcher(line).replaceFirst("");
+            if (dropLabels) {
+                text = LABEL.matcher(text).replaceFirst("");
+            }
+            for (String item : LIST_SEPARATOR.split(text)) {
+                item = stripSeparators(item);
+                if (!item.isEmpty() && item.length() <= 80 && seen.add(item.toLowerCase(Locale.ROOT))) {
+                    items.add(item);
+                    if (items.size() >= MAX_LIST_ITEMS) {
+                        return items;
+                    }
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Body lines as one line per bullet; wrapped bullet text is joined back up
+     */
+    private static String description(List<String> lines) {
+        if (lines.isEmpty()) {
+            return null;
+        }
+        boolean bulleted = lines.stream().anyMatch(ResumeSectionParser::isBullet);
+
+        List<String> items = new ArrayList<>();
+        for (String line : lines) {
+            if (bulleted && !isBullet(line) && !items.isEmpty()) {
+                int last = items.size() - 1;
+                items.set(last, items.get(last) + " " + line);
+            } else {
+                items.add(BULLET.matcher(line).replaceFirst(""));
+            }
+        }
+        return String.join("\n", items);
+    }
+
+    private static String joinParagraph(List<String> lines) {
+        StringBuilder text = new StringBuilder();
+        for (String line : lines) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(BULLET.matcher(line).replaceFirst(""));
+        }
+        return text.toString();
+    }
+
+    private static List<String> titleParts(List<String> titles) {
+        List<String> parts = new ArrayList<>();
+        for (String title : titles) {
+            for (String part : TITLE_SEPARATOR.split(title)) {
+                part = stripSeparators(part);
+                if (!part.isEmpty()) {
+                    parts.add(part);
+                }
+            }
+        }
+        return parts;
+    }
+
+    private static String firstMatching(List<String> parts, Pattern words) {
+        for (String part : parts) {
+            if (words.matcher(part).find()) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    private static String firstOther(List<String> parts, String taken) {
+        for (String part : parts) {
+            if (!part.equals(taken)) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBullet(String line) {
+        return BULLET.matcher(line).find();
+    }
+
+    private static String stripSeparators(String text) {
+        return text.replaceAll("^[\\s|,;:–—-]+|[\\s|,;:–—-]+$", "").replaceAll("\\s{2,}", " ");
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+
+    static final class Entry {
+        final List<String> titles = new ArrayList<>();
+        final List<String> body = new ArrayList<>();
+        String start;
+        String end;
+        boolean current;
+        boolean bulleted;
+    }
+}
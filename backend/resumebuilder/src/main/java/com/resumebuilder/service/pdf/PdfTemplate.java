@@ -0,0 +1,85 @@
+package com.resumebuilder.service.pdf;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Font;
+
+import java.util.List;
+
+/**
+ * A template compiled for one theme color: fonts, colors and the order of
+ * sections. Instances are built once by {@link PdfTemplateRegistry} and shared
+ * by all render threads, so nothing here may be modified after construction.
+ */
+public final class PdfTemplate {
+
+    public enum Section { SUMMARY, EXPERIENCE, EDUCATION, PROJECTS, SKILLS, CERTIFICATIONS, LANGUAGES }
+
+    /**
+     * One section of the layout plan with its heading as printed
+     */
+    public static final class PlannedSection {
+        private final Section section;
+        private final String heading;
+
+        PlannedSection(Section section, String heading) {
+            this.section = section;
+            this.heading = heading;
+        }
+
+        public Section getSection() { return section; }
+        public String getHeading() { return heading; }
+    }
+
+    private final String name;
+    private final List<PlannedSection> sections;
+    private final int headerAlignment;
+    private final float margin;
+
+    private final Font nameFont;
+    private final Font headlineFont;
+    private final Font contactFont;
+    private final Font headingFont;
+    private final Font itemTitleFont;
+    private final Font itemSubtitleFont;
+    private final Font bodyFont;
+
+    // Line under each heading, or null for none
+    private final BaseColor headingRuleColor;
+    // Fill behind each heading, or null for none
+    private final BaseColor headingBackground;
+
+    PdfTemplate(String name, List<PlannedSection> sections, int headerAlignment, float margin,
+                Font nameFont, Font headlineFont, Font contactFont, Font headingFont,
+                Font itemTitleFont, Font itemSubtitleFont, Font bodyFont,
+                BaseColor headingRuleColor, BaseColor headingBackground) {
+        this.name = name;
+        this.sections = List.copyOf(sections);
+        this.headerAlignment = headerAlignment;
+        this.margin = margin;
+        this.nameFont = nameFont;
+        this.headlineFont = headlineFont;
+        this.contactFont = contactFont;
+        this.headingFont = headingFont;
+        this.itemTitleFont = itemTitleFont;
+        this.itemSubtitleFont = itemSubtitleFont;
+        this.bodyFont = bodyFont;
+        this.headingRuleColor = headingRuleColor;
+        this.headingBackground = headingBackground;
+    }
+
+    public String getName() { return name; }
+    public List<PlannedSection> getSections() { return sections; }
+    public int getHeaderAlignment() { return headerAlignment; }
+    public float getMargin() { return margin; }
+
+    public Font getNameFont() { return nameFont; }
+    public Font getHeadlineFont() { return headlineFont; }
+    public Font getContactFont() { return contactFont; }
+    public Font getHeadingFont() { return headingFont; }
+    public Font getItemTitleFont() { return itemTitleFont; }
+    public Font getItemSubtitleFont() { return itemSubtitleFont; }
+    public Font getBodyFont() { return bodyFont; }
+
+    public BaseColor getHeadingRuleColor() { return headingRuleColor; }
+    public BaseColor getHeadingBackground() { return headingBackground; }
+}
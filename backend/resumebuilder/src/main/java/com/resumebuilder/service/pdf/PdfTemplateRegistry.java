@@ -0,0 +1,217 @@
+package com.resumebuilder.service.pdf;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.pdf.BaseFont;
+import com.resumebuilder.service.pdf.PdfTemplate.PlannedSection;
+import com.resumebuilder.service.pdf.PdfTemplate.Section;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Server-side counterparts of the frontend's templates.jsx.
+ *
+ * Base fonts are loaded once, and every template is compiled up front for
+ * each color offered by the color picker. Other colors are compiled on first
+ * use and kept in a small bounded cache. Renders only look templates up.
+ */
+@Component
+public class PdfTemplateRegistry {
+
+    public static final String DEFAULT_TEMPLATE = "Modern";
+    public static final String DEFAULT_COLOR = "#4f46e5";
+
+    // Colors offered by ColorPicker.jsx; the gradient theme prints in DEFAULT_COLOR
+    private static final List<String> PALETTE = List.of(
+            "#4f46e5", "#0ea5e9", "#10b981", "#f59e0b", "#ef4444", "#8b5cf6", "#0f172a");
+
+    private static final int MAX_CUSTOM_COLORS = 256;
+
+    private static final Pattern HEX_COLOR = Pattern.compile("^#([0-9a-f]{6}|[0-9a-f]{3})$");
+
+    // Marks a color slot that follows the resume's theme color
+    private static final String THEME = "theme";
+
+    private final BaseFont sans;
+    private final BaseFont sansBold;
+    private final BaseFont serif;
+    private final BaseFont serifBold;
+    private final BaseFont serifItalic;
+
+    private final Map<String, Layout> layouts = new LinkedHashMap<>();
+    private final Map<String, PdfTemplate> compiled = new HashMap<>();
+    private final Map<String, PdfTemplate> customColors = new ConcurrentHashMap<>();
+
+    public PdfTemplateRegistry() throws DocumentException, IOException {
+        sans = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        sansBold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        serif = BaseFont.createFont(BaseFont.TIMES_ROMAN, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        serifBold = BaseFont.createFont(BaseFont.TIMES_BOLD, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        serifItalic = BaseFont.createFont(BaseFont.TIMES_ITALIC, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+
+        List<PlannedSection> standard = plan("MY SUMMARY", "PROFESSIONAL EXPERIENCE", "EDUCATION", "PROJECTS",
+                "MY SKILLS", "CERTIFICATES", "LANGUAGES");
+        List<PlannedSection> plain = plan("SUMMARY", "EXPERIENCE", "EDUCATION", "PROJECTS",
+                "SKILLS", "CERTIFICATES", "LANGUAGES");
+
+        register(new Layout("Modern", false, Element.ALIGN_LEFT, 22, "#0f172a", THEME, false, false, null, standard));
+        register(new Layout("Classic", false, Element.ALIGN_CENTER, 20, THEME, "#475569", false, true, null, standard));
+        register(new Layout("Executive", true, Element.ALIGN_CENTER, 22, THEME, "#475569", true, true, null, standard));
+        register(new Layout("Minimalist", false, Element.ALIGN_LEFT, 20, "#94a3b8", "#64748b", false, false, null, standard));
+        register(new Layout("FAANG", false, Element.ALIGN_LEFT, 20, THEME, "#000000", false, true, null, standard));
+        register(new Layout("Enterprise", false, Element.ALIGN_LEFT, 20, THEME, "#64748b", false, false, null, standard));
+        register(new Layout("GooglePro", false, Element.ALIGN_CENTER, 18, THEME, THEME, false, true, null, plain));
+        register(new Layout("MetaModern", false, Element.ALIGN_LEFT, 24, "#cbd5e1", THEME, false, false, null, standard));
+        register(new Layout("IBMProfessional", false, Element.ALIGN_LEFT, 20, "#ffffff", "#64748b", false, false, "#111827", standard));
+
+        for (Layout layout : layouts.values()) {
+            for (String color : PALETTE) {
+                compiled.put(key(layout.name, color), compile(layout, color));
+            }
+        }
+    }
+
+    /**
+     * The compiled template for a resume. Unknown templates fall back to
+     * Modern and unusable colors (including gradients) to the default color.
+     */
+    public PdfTemplate resolve(String templateName, String themeColor) {
+        Layout layout = templateName == null ? null : layouts.get(templateName);
+        if (layout == null) {
+            layout = layouts.get(DEFAULT_TEMPLATE);
+        }
+        String color = normalizeColor(themeColor);
+
+        PdfTemplate template = compiled.get(key(layout.name, color));
+        if (template != null) {
+            return template;
+        }
+
+        // Custom color: compile once, but don't let arbitrary input grow the cache forever
+        template = customColors.get(key(layout.name, color));
+        if (template == null) {
+            template = compile(layout, color);
+            if (customColors.size() < MAX_CUSTOM_COLORS) {
+                customColors.putIfAbsent(key(layout.name, color), template);
+            }
+        }
+        return template;
+    }
+
+    public List<String> getTemplateNames() {
+        return List.copyOf(layouts.keySet());
+    }
+
+    // ---------- Compilation ----------
+
+    private PdfTemplate compile(Layout layout, String themeColor) {
+        BaseColor theme = toColor(themeColor);
+        BaseColor ink = toColor("#0f172a");
+        BaseColor muted = toColor("#475569");
+
+        BaseFont regular = layout.serif ? serif : sans;
+        BaseFont bold = layout.serif ? serifBold : sansBold;
+        BaseFont subtitle = layout.italicSubtitles ? serifItalic : bold;
+
+        BaseColor headingColor = layout.headingColor.equals(THEME) ? theme : toColor(layout.headingColor);
+        BaseColor subtitleColor = layout.subtitleColor.equals(THEME) ? theme : toColor(layout.subtitleColor);
+
+        return new PdfTemplate(
+                layout.name,
+                layout.sections,
+                layout.headerAlignment,
+                layout.serif ? 54 : 48,
+                new Font(bold, layout.nameSize, Font.NORMAL, ink),
+                new Font(bold, 11, Font.NORMAL, theme),
+                new Font(regular, 9, Font.NORMAL, muted),
+                new Font(bold, 10, Font.NORMAL, headingColor),
+                new Font(bold, 11, Font.NORMAL, ink),
+                new Font(subtitle, 10, Font.NORMAL, subtitleColor),
+                new Font(regular, 10, Font.NORMAL, muted),
+                layout.headingRule ? toColor("#e2e8f0") : null,
+                layout.headingBackground == null ? null : toColor(layout.headingBackground));
+    }
+
+    private void register(Layout layout) {
+        layouts.put(layout.name, layout);
+    }
+
+    private static List<PlannedSection> plan(String summary, String experience, String education, String projects,
+                                             String skills, String certifications, String languages) {
+        List<PlannedSection> sections = new ArrayList<>();
+        sections.add(new PlannedSection(Section.SUMMARY, summary));
+        sections.add(new PlannedSection(Section.EXPERIENCE, experience));
+        sections.add(new PlannedSection(Section.EDUCATION, education));
+        sections.add(new PlannedSection(Section.PROJECTS, projects));
+        sections.add(new PlannedSection(Section.SKILLS, skills));
+        sections.add(new PlannedSection(Section.CERTIFICATIONS, certifications));
+        sections.add(new PlannedSection(Section.LANGUAGES, languages));
+        return List.copyOf(sections);
+    }
+
+    static String normalizeColor(String themeColor) {
+        if (themeColor == null) {
+            return DEFAULT_COLOR;
+        }
+        String color = themeColor.trim().toLowerCase(Locale.ROOT);
+        if (!HEX_COLOR.matcher(color).matches()) {
+            return DEFAULT_COLOR;
+        }
+        if (color.length() == 4) {
+            color = "#" + color.charAt(1) + color.charAt(1) + color.charAt(2) + color.charAt(2)
+                    + color.charAt(3) + color.charAt(3);
+        }
+        return color;
+    }
+
+    private static BaseColor toColor(String hex) {
+        int rgb = Integer.parseInt(hex.substring(1), 16);
+        return new BaseColor((rgb >> 16) & 0xff, (rgb >> 8) & 0xff, rgb & 0xff);
+    }
+
+    private static String key(String template, String color) {
+        return template + "|" + color;
+    }
+
+    /**
+     * Color-independent description of a template
+     */
+    private static final class Layout {
+        final String name;
+        final boolean serif;
+        final int headerAlignment;
+        final float nameSize;
+        final String headingColor;
+        final String subtitleColor;
+        final boolean italicSubtitles;
+        final boolean headingRule;
+        final String headingBackground;
+        final List<PlannedSection> sections;
+
+        Layout(String name, boolean serif, int headerAlignment, float nameSize, String headingColor,
+               String subtitleColor, boolean italicSubtitles, boolean headingRule, String headingBackground,
+               List<PlannedSection> sections) {
+            this.name = name;
+            this.serif = serif;
+            this.headerAlignment = headerAlignment;
+            this.nameSize = nameSize;
+            this.headingColor = headingColor;
+            this.subtitleColor = subtitleColor;
+            this.italicSubtitles = italicSubtitles;
+            this.headingRule = headingRule;
+            this.headingBackground = headingBackground;
+            this.sections = sections;
+        }
+    }
+}
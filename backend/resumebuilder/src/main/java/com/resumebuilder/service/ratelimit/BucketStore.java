@@ -0,0 +1,27 @@
+package com.resumebuilder.service.ratelimit;
+
+/**
+ * Where token buckets live. A bucket's whole state is one number, the time
+ * (epoch millis) at which it is full again, so a store only needs an atomic
+ * compare-and-set per key. Nodes sharing a store share their limits.
+ */
+public interface BucketStore {
+
+    /**
+     * When the bucket for key is full again, or 0 if it has no state
+     */
+    long get(String key);
+
+    /**
+     * Set the bucket to update if it is still at expected (0 = no state).
+     * Returns false if another request changed it first.
+     */
+    boolean compareAndSet(String key, long expected, long update);
+
+    /**
+     * Drop buckets that are full by now; a full bucket is the same as none.
+     * Stores that expire entries on their own can ignore this.
+     */
+    default void evictFull(long now) {
+    }
+}
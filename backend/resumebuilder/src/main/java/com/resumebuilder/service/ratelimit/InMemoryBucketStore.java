@@ -0,0 +1,41 @@
+package com.resumebuilder.service.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buckets kept in this JVM. Limits are per node; use a shared store when
+ * running several instances behind a load balancer.
+ */
+public class InMemoryBucketStore implements BucketStore {
+
+    private final ConcurrentHashMap<String, Long> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public long get(String key) {
+        Long fullAt = buckets.get(key);
+        return fullAt == null ? 0 : fullAt;
+    }
+
+    @Override
+    public boolean compareAndSet(String key, long expected, long update) {
+        if (expected == 0) {
+            return buckets.putIfAbsent(key, update) == null;
+        }
+        return buckets.replace(key, expected, update);
+    }
+
+    @Override
+    public void evictFull(long now) {
+        for (Map.Entry<String, Long> bucket : buckets.entrySet()) {
+            if (bucket.getValue() <= now) {
+                // Only if unchanged, so a request that just took a token keeps its bucket
+                buckets.remove(bucket.getKey(), bucket.getValue());
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.resumebuilder.service.ratelimit;
+
+import com.resumebuilder.model.RateLimitBucket;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+
+/**
+ * Buckets shared by every instance through Mongo. Each check costs a read and
+ * a conditional write; full buckets are removed by the TTL index on expireAt.
+ */
+public class MongoBucketStore implements BucketStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoBucketStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long get(String key) {
+        RateLimitBucket bucket = mongoTemplate.findById(key, RateLimitBucket.class);
+        return bucket == null ? 0 : bucket.getFullAt();
+    }
+
+    @Override
+    public boolean compareAndSet(String key, long expected, long update) {
+        if (expected == 0) {
+            try {
+                mongoTemplate.insert(new RateLimitBucket(key, update));
+                return true;
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        }
+
+        Query unchanged = new Query(Criteria.where("_id").is(key).and("fullAt").is(expected));
+        Update next = new Update()
+                .set("fullAt", update)
+                .set("expireAt", Instant.ofEpochMilli(update));
+        return mongoTemplate.updateFirst(unchanged, next, RateLimitBucket.class).getModifiedCount() == 1;
+    }
+}
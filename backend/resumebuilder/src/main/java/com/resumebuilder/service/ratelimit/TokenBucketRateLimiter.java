@@ -0,0 +1,93 @@
+package com.resumebuilder.service.ratelimit;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiting without locks.
+ *
+ * A bucket holds up to capacity tokens and gains one every refill interval.
+ * Instead of a token count and a timestamp it stores a single value, the time
+ * the bucket will be full again: taking a token pushes that time one interval
+ * further, and a request is turned away if that would put it more than
+ * capacity intervals ahead of now. Updates are a compare-and-set on that value,
+ * retried when a concurrent request got there first; rejected requests write
+ * nothing.
+ */
+public class TokenBucketRateLimiter {
+
+    private final BucketStore store;
+    private final LongSupplier clock;
+
+    /**
+     * @param clock epoch millis; shared stores need clocks that agree across nodes
+     */
+    public TokenBucketRateLimiter(BucketStore store, LongSupplier clock) {
+        this.store = store;
+        this.clock = clock;
+    }
+
+    public Decision tryAcquire(String key, Rule rule) {
+        long interval = rule.getRefillIntervalMs();
+        long window = rule.getCapacity() * interval;
+
+        while (true) {
+            long now = clock.getAsLong();
+            long fullAt = store.get(key);
+            long next = Math.max(fullAt, now) + interval;
+
+            long wait = next - now - window;
+            if (wait > 0) {
+                return new Decision(false, 0, wait);
+            }
+            if (store.compareAndSet(key, fullAt, next)) {
+                return new Decision(true, (window - (next - now)) / interval, 0);
+            }
+        }
+    }
+
+    public void evictFull() {
+        store.evictFull(clock.getAsLong());
+    }
+
+    /**
+     * Bucket size and refill rate for one class of routes
+     */
+    public static final class Rule {
+        private final long capacity;
+        private final long refillIntervalMs;
+
+        public Rule(long capacity, long refillIntervalMs) {
+            if (capacity < 1 || refillIntervalMs < 1) {
+                throw new IllegalArgumentException("Rate limit needs a capacity and refill interval of at least 1");
+            }
+            this.capacity = capacity;
+            this.refillIntervalMs = refillIntervalMs;
+        }
+
+        /**
+         * A bucket of capacity tokens refilled at perMinute tokens a minute
+         */
+        public static Rule perMinute(long capacity, long perMinute) {
+            return new Rule(capacity, Math.max(1, 60_000 / Math.max(1, perMinute)));
+        }
+
+        public long getCapacity() { return capacity; }
+        public long getRefillIntervalMs() { return refillIntervalMs; }
+    }
+
+    public static final class Decision {
+        private final boolean allowed;
+        private final long remaining;
+        private final long retryAfterMs;
+
+        Decision(boolean allowed, long remaining, long retryAfterMs) {
+            this.allowed = allowed;
+            this.remaining = remaining;
+            this.retryAfterMs = retryAfterMs;
+        }
+
+        public boolean isAllowed() { return allowed; }
+        public long getRemaining() { return remaining; }
+        public long getRetryAfterMs() { return retryAfterMs; }
+    }
+}
@@ -0,0 +1,126 @@
+package com.resumebuilder.config;
+
+import com.resumebuilder.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Stateless JWT security for the reactive profile, the WebFlux twin of SecurityConfig.
+ * The authenticated principal is the user's email.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@EnableReactiveMongoAuditing
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:${server.port:8080}}")
+    private int managementPort;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+
+        HttpStatusServerEntryPoint unauthorized = new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED);
+
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(jwtAuthenticationManager());
+        jwtFilter.setServerAuthenticationConverter(exchange -> {
+            String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                return Mono.empty();
+            }
+            String token = authHeader.substring(7);
+            return Mono.just(new UsernamePasswordAuthenticationToken(token, token));
+        });
+        jwtFilter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(unauthorized));
+        jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        http
+            .csrf(csrf -> csrf.disable())
+            .httpBasic(basic -> basic.disable())
+            .formLogin(form -> form.disable())
+            .logout(logout -> logout.disable())
+            .cors(cors -> cors.configurationSource(exchange -> {
+                var config = new org.springframework.web.cors.CorsConfiguration();
+                config.setAllowedOriginPatterns(List.of("*"));
+                config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
+                config.setAllowedHeaders(List.of("*"));
+                config.setExposedHeaders(List.of("Authorization", "Content-Type", "Accept"));
+                config.setAllowCredentials(true);
+                return config;
+            }))
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(unauthorized))
+            .authorizeExchange(auth -> auth
+                .matchers(onManagementPort()).permitAll()
+                .pathMatchers("/actuator/health").permitAll()
+                .pathMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
+                .anyExchange().authenticated()
+            )
+            .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION);
+
+        return http.build();
+    }
+
+    // Requests to a dedicated management port, as in SecurityConfig
+    private ServerWebExchangeMatcher onManagementPort() {
+        return exchange -> {
+            var local = exchange.getRequest().getLocalAddress();
+            boolean match = managementPort != serverPort && local != null && local.getPort() == managementPort;
+            return match ? ServerWebExchangeMatcher.MatchResult.match() : ServerWebExchangeMatcher.MatchResult.notMatch();
+        };
+    }
+
+    /**
+     * Verifies the bearer token (cached in JwtUtil) and loads the user's roles
+     * without blocking the event loop
+     */
+    @Bean
+    public ReactiveAuthenticationManager jwtAuthenticationManager() {
+        return authentication -> Mono.justOrEmpty(jwtUtil.validateAndExtractEmail((String) authentication.getCredentials()))
+                .flatMap(email -> {
+                    Query query = new Query(Criteria.where("email").is(email));
+                    query.fields().include("email", "roles");
+                    return reactiveMongoTemplate.findOne(query, User.class);
+                })
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("Invalid token")))
+                .map(user -> {
+                    List<SimpleGrantedAuthority> authorities = user.getRoles() == null ? List.of() :
+                            user.getRoles().stream().map(SimpleGrantedAuthority::new).toList();
+                    return new UsernamePasswordAuthenticationToken(user.getEmail(), null, authorities);
+                });
+    }
+}
@@ -0,0 +1,95 @@
+package com.resumebuilder.controller;
+
+import com.resumebuilder.dto.ResumeRequest;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.ReactiveResumeService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resume CRUD on WebFlux, active when the application runs as a reactive web app.
+ * Paths and status codes match ResumeController.
+ */
+@RestController
+@RequestMapping("/api/resumes")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveResumeController {
+
+    @Autowired
+    private ReactiveResumeService resumeService;
+
+    // Create Resume
+    @PostMapping
+    public Mono<ResponseEntity<?>> createResume(
+            @Valid @RequestBody ResumeRequest request,
+            Authentication authentication
+    ) {
+        return resumeService.createResume(request, authentication.getName())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.badRequest().body(e.getMessage())));
+    }
+
+    /**
+     * Get My Resumes. With Accept: application/x-ndjson or text/event-stream each
+     * resume is written as soon as it is read from the cursor; plain JSON gets an array.
+     */
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE
+    })
+    public Flux<Resume> getMyResumes(Authentication authentication) {
+        return resumeService.getMyResumes(authentication.getName());
+    }
+
+    // Get Resume by ID
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> getResume(@PathVariable String id) {
+        return resumeService.getResumeById(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.status(404).body(e.getMessage())));
+    }
+
+    // Update Resume
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<?>> updateResume(
+            @PathVariable String id,
+            @Valid @RequestBody ResumeRequest request,
+            Authentication authentication
+    ) {
+        return resumeService.updateResume(id, request, authentication.getName())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(RuntimeException.class, e -> Mono.just(error(e)));
+    }
+
+    // Delete Resume
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<?>> deleteResume(
+            @PathVariable String id,
+            Authentication authentication
+    ) {
+        return resumeService.deleteResume(id, authentication.getName())
+                .then(Mono.<ResponseEntity<?>>fromSupplier(() -> ResponseEntity.ok("Resume deleted successfully")))
+                .onErrorResume(RuntimeException.class, e -> Mono.just(error(e)));
+    }
+
+    private ResponseEntity<?> error(RuntimeException e) {
+        if (e.getMessage() != null && e.getMessage().contains("Unauthorized")) {
+            return ResponseEntity.status(403).body(e.getMessage());
+        }
+        if (e.getMessage() != null && e.getMessage().contains("not found")) {
+            return ResponseEntity.status(404).body(e.getMessage());
+        }
+        if (e.getMessage() != null && e.getMessage().startsWith("Conflict")) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        }
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,10 @@
+package com.resumebuilder.repository;
+
+import com.resumebuilder.model.Resume;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveResumeRepository extends ReactiveMongoRepository<Resume, String> {
+
+    Flux<Resume> findByUserEmail(String userEmail);
+}
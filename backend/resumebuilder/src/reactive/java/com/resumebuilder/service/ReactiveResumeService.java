@@ -0,0 +1,127 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.dto.ResumeRequest;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.repository.ReactiveResumeRepository;
+import com.resumebuilder.service.history.ResumeHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of ResumeService for the reactive profile.
+ * Same ownership rules and error messages, so the controller maps them the same way.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveResumeService {
+
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    @Autowired
+    private ReactiveResumeRepository resumeRepository;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private PdfRenderCache pdfRenderCache;
+
+    @Autowired
+    private ResumeHistoryService resumeHistoryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Create Resume
+    public Mono<Resume> createResume(ResumeRequest request, String userEmail) {
+        Resume resume = new Resume();
+        resume.setUserEmail(userEmail);
+        ResumeService.mapRequestToResume(request, resume);
+
+        return resumeRepository.save(resume)
+                .flatMap(saved -> recordHistory(saved).thenReturn(saved))
+                .doOnNext(this::publishChange);
+    }
+
+    // Update Resume; the replace is guarded by the version read, like ResumeService
+    public Mono<Resume> updateResume(String id, ResumeRequest request, String userEmail) {
+        return Mono.defer(() -> replaceIfUnchanged(id, request, userEmail))
+                // Empty when a concurrent write won; try again on the fresh document
+                .repeat(MAX_WRITE_ATTEMPTS - 1)
+                .next()
+                .switchIfEmpty(Mono.error(() ->
+                        new RuntimeException("Conflict: resume kept changing during the update, try again")))
+                .flatMap(saved -> invalidateRender(id).then(recordHistory(saved)).thenReturn(saved))
+                .doOnNext(this::publishChange);
+    }
+
+    private Mono<Resume> replaceIfUnchanged(String id, ResumeRequest request, String userEmail) {
+        return getResumeById(id)
+                .flatMap(resume -> {
+                    if (!resume.getUserEmail().equalsIgnoreCase(userEmail)) {
+                        return Mono.error(new RuntimeException("Unauthorized: You can only update your own resumes"));
+                    }
+                    long currentVersion = resume.getVersion();
+                    ResumeService.mapRequestToResume(request, resume);
+                    resume.setVersion(currentVersion + 1);
+
+                    Query unchanged = new Query(Criteria.where("_id").is(id)
+                            .andOperator(ResumePatchService.versionIs(currentVersion)));
+                    return mongoTemplate.findAndReplace(unchanged, resume, FindAndReplaceOptions.options().returnNew());
+                });
+    }
+
+    /**
+     * All resumes of a user, emitted as they come off the Mongo cursor
+     */
+    public Flux<Resume> getMyResumes(String userEmail) {
+        return resumeRepository.findByUserEmail(userEmail);
+    }
+
+    // Get single resume
+    public Mono<Resume> getResumeById(String id) {
+        return resumeRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Resume not found")));
+    }
+
+    // Delete Resume
+    public Mono<Void> deleteResume(String id, String userEmail) {
+        return getResumeById(id)
+                .flatMap(resume -> {
+                    if (!resume.getUserEmail().equals(userEmail)) {
+                        return Mono.error(new RuntimeException("Unauthorized: You can only delete your own resumes"));
+                    }
+                    return resumeRepository.deleteById(id);
+                })
+                .then(invalidateRender(id))
+                .then(Mono.fromRunnable(() -> resumeHistoryService.deleteHistory(id))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then());
+    }
+
+    // The cache may delete a spilled file, so keep it off the event loop
+    private Mono<Void> invalidateRender(String id) {
+        return Mono.fromRunnable(() -> pdfRenderCache.invalidate(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    // History only queues the saved document for its own workers, so this is fine on the event loop
+    private Mono<Void> recordHistory(Resume saved) {
+        return Mono.fromRunnable(() -> resumeHistoryService.record(saved));
+    }
+
+    // Listeners only queue work, so this is fine on the event loop
+    private void publishChange(Resume saved) {
+        eventPublisher.publishEvent(new ResumeChangedEvent(this, saved.getId()));
+    }
+}
@@ -0,0 +1,135 @@
+package com.resumebuilder.controller;
+
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.repository.ResumeRepository;
+import com.resumebuilder.service.PdfExportService;
+import com.resumebuilder.service.PdfRenderCache;
+import com.resumebuilder.service.PdfService;
+import com.resumebuilder.service.ResumeService;
+import com.resumebuilder.service.StageLimiter;
+import com.resumebuilder.service.pdf.PdfTemplateRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class PdfControllerTest {
+
+    private static final UsernamePasswordAuthenticationToken JANE =
+            new UsernamePasswordAuthenticationToken("jane@example.com", null, List.of());
+
+    private ResumeRepository resumeRepository;
+    private ResumeService resumeService;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PdfService pdfService = new PdfService();
+        ReflectionTestUtils.setField(pdfService, "renderCache", new PdfRenderCache());
+        ReflectionTestUtils.setField(pdfService, "templateRegistry", new PdfTemplateRegistry());
+        ReflectionTestUtils.setField(pdfService, "pdfRenderLimiter", StageLimiter.unlimited("PDF rendering"));
+        ReflectionTestUtils.setField(pdfService, "meterRegistry", new SimpleMeterRegistry());
+
+        resumeRepository = Mockito.mock(ResumeRepository.class);
+        PdfExportService exportService = new PdfExportService();
+        ReflectionTestUtils.setField(exportService, "resumeRepository", resumeRepository);
+        ReflectionTestUtils.setField(exportService, "pdfService", pdfService);
+        ReflectionTestUtils.setField(exportService, "pdfExecutor", new SyncTaskExecutor());
+        ReflectionTestUtils.setField(exportService, "maxResumes", 2);
+        ReflectionTestUtils.setField(exportService, "window", 4);
+
+        resumeService = Mockito.mock(ResumeService.class);
+        PdfController controller = new PdfController();
+        ReflectionTestUtils.setField(controller, "resumeService", resumeService);
+        ReflectionTestUtils.setField(controller, "pdfService", pdfService);
+        ReflectionTestUtils.setField(controller, "pdfExportService", exportService);
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void uncachedDownloadHasALengthAndServesRanges() throws Exception {
+        Resume resume = resume();
+        Mockito.when(resumeService.getResumeRevision("r1")).thenReturn(resume);
+        Mockito.when(resumeService.getResumeById("r1")).thenReturn(resume);
+
+        MvcResult started = mvc.perform(get("/api/pdf/resume/r1").principal(JANE)
+                        .header(HttpHeaders.RANGE, "bytes=0-4"))
+                .andReturn();
+        MvcResult result = mvc.perform(asyncDispatch(started)).andReturn();
+
+        assertEquals(206, result.getResponse().getStatus());
+        assertEquals("5", result.getResponse().getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertTrue(result.getResponse().getHeader(HttpHeaders.CONTENT_RANGE).startsWith("bytes 0-4/"));
+        assertEquals("%PDF-", result.getResponse().getContentAsString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void exportStreamsAZipWithAPdfAndAnErrorEntry() throws Exception {
+        Resume resume = resume();
+        Mockito.when(resumeRepository.findAllById(any())).thenReturn(List.of(resume));
+
+        MvcResult started = mvc.perform(post("/api/pdf/export").principal(JANE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"resumeIds\": [\"r1\", \"missing\"]}"))
+                .andReturn();
+        MvcResult result = mvc.perform(asyncDispatch(started)).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("application/zip", result.getResponse().getContentType());
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                names.add(entry.getName());
+                byte[] content = zip.readAllBytes();
+                if (entry.getName().endsWith(".pdf")) {
+                    assertTrue(new String(content, 0, 5, StandardCharsets.US_ASCII).startsWith("%PDF-"));
+                }
+            }
+        }
+        names.sort(null);
+        assertEquals(List.of("Backend.pdf", "resume-missing.error.txt"), names);
+    }
+
+    @Test
+    void rejectsExportsOverTheLimit() throws Exception {
+        int status = mvc.perform(post("/api/pdf/export").principal(JANE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"resumeIds\": [\"a\", \"b\", \"c\"]}"))
+                .andReturn().getResponse().getStatus();
+
+        assertEquals(400, status);
+    }
+
+    private static Resume resume() {
+        Resume resume = new Resume();
+        resume.setId("r1");
+        resume.setUserEmail("jane@example.com");
+        resume.setTitle("Backend");
+        Resume.PersonalInfo info = new Resume.PersonalInfo();
+        info.setFullName("Jane Doe");
+        resume.setPersonalInfo(info);
+        return resume;
+    }
+}
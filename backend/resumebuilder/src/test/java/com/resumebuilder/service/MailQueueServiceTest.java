@@ -0,0 +1,200 @@
+package com.resumebuilder.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.resumebuilder.model.MailJob;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.repository.MailJobRepository;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+class MailQueueServiceTest {
+
+    private static final long BACKOFF_MS = 60_000;
+    private static final long INTERVAL_MS = 30_000;
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private MailJobRepository mailJobRepository;
+    private StubEmailService emailService;
+    private MailQueueService mailQueue;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create("mongodb://localhost:" + server.bind().getPort());
+        mongoTemplate = new MongoTemplate(client, "test");
+        mailJobRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(MailJobRepository.class);
+
+        Resume resume = new Resume();
+        resume.setId("r1");
+        ResumeService resumeService = Mockito.mock(ResumeService.class);
+        Mockito.when(resumeService.getResumeById("r1")).thenReturn(resume);
+        PdfService pdfService = Mockito.mock(PdfService.class);
+        Mockito.when(pdfService.resumePdfSource(any())).thenReturn(new ByteArrayResource(new byte[] {1}));
+        emailService = new StubEmailService();
+
+        mailQueue = new MailQueueService();
+        ReflectionTestUtils.setField(mailQueue, "mailJobRepository", mailJobRepository);
+        ReflectionTestUtils.setField(mailQueue, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(mailQueue, "resumeService", resumeService);
+        ReflectionTestUtils.setField(mailQueue, "pdfService", pdfService);
+        ReflectionTestUtils.setField(mailQueue, "emailService", emailService);
+        ReflectionTestUtils.setField(mailQueue, "mailExecutor", new SyncTaskExecutor());
+        ReflectionTestUtils.setField(mailQueue, "enabled", true);
+        ReflectionTestUtils.setField(mailQueue, "workers", 4);
+        ReflectionTestUtils.setField(mailQueue, "maxAttempts", 3);
+        ReflectionTestUtils.setField(mailQueue, "backoffMs", BACKOFF_MS);
+        ReflectionTestUtils.setField(mailQueue, "maxBackoffMs", 3_600_000L);
+        ReflectionTestUtils.setField(mailQueue, "leaseMs", 300_000L);
+        ReflectionTestUtils.setField(mailQueue, "perRecipientIntervalMs", INTERVAL_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void claimsAndSendsADueJob() {
+        MailJob job = enqueue("hr@example.com");
+
+        mailQueue.dispatch();
+
+        MailJob sent = reload(job);
+        assertEquals(MailJob.STATUS_SENT, sent.getStatus());
+        assertEquals(1, sent.getAttempts());
+        assertNull(sent.getLockedUntil());
+        assertEquals(List.of("hr@example.com"), emailService.sent);
+    }
+
+    @Test
+    void reclaimsAJobOnceItsLeaseExpires() {
+        MailJob expired = enqueue("a@example.com");
+        MailJob leased = enqueue("b@example.com");
+        // Claimed by workers that went away; only one lease has run out
+        lock(expired, Instant.now().minusSeconds(1));
+        lock(leased, Instant.now().plusSeconds(60));
+
+        mailQueue.dispatch();
+
+        assertEquals(MailJob.STATUS_SENT, reload(expired).getStatus());
+        assertEquals(MailJob.STATUS_SENDING, reload(leased).getStatus());
+        assertEquals(List.of("a@example.com"), emailService.sent);
+    }
+
+    @Test
+    void backsOffExponentiallyAndFailsAfterMaxAttempts() {
+        emailService.failing = true;
+        // A failed send still takes the recipient's slot; keep it out of the way of the retries
+        ReflectionTestUtils.setField(mailQueue, "perRecipientIntervalMs", 0L);
+        MailJob job = enqueue("hr@example.com");
+
+        List<Duration> delays = new ArrayList<>();
+        for (int attempt = 1; attempt < 3; attempt++) {
+            Instant before = Instant.now();
+            mailQueue.dispatch();
+
+            MailJob retried = reload(job);
+            assertEquals(MailJob.STATUS_QUEUED, retried.getStatus());
+            assertEquals(attempt, retried.getAttempts());
+            assertEquals("SMTP down", retried.getLastError());
+            delays.add(Duration.between(before, retried.getNextAttemptAt()));
+            makeDue(job);
+        }
+
+        // backoff-ms, then twice that, each with up to a quarter of jitter on top
+        assertBetween(BACKOFF_MS, BACKOFF_MS * 5 / 4 + 1_000, delays.get(0).toMillis());
+        assertBetween(2 * BACKOFF_MS, 2 * BACKOFF_MS * 5 / 4 + 1_000, delays.get(1).toMillis());
+
+        mailQueue.dispatch();
+
+        MailJob failed = reload(job);
+        assertEquals(MailJob.STATUS_FAILED, failed.getStatus());
+        assertEquals(3, failed.getAttempts());
+        assertNull(failed.getLockedUntil());
+
+        // A failed job is never claimed again
+        makeDue(job);
+        mailQueue.dispatch();
+        assertEquals(3, reload(job).getAttempts());
+    }
+
+    @Test
+    void defersASecondEmailToTheSameRecipient() {
+        MailJob first = enqueue("hr@example.com");
+        MailJob second = enqueue("HR@Example.com");
+
+        Instant before = Instant.now();
+        mailQueue.dispatch();
+
+        assertEquals(1, emailService.sent.size());
+        MailJob deferred = reload(first).getStatus().equals(MailJob.STATUS_SENT) ? reload(second) : reload(first);
+        assertEquals(MailJob.STATUS_QUEUED, deferred.getStatus());
+        // Waiting for the recipient does not use up an attempt
+        assertEquals(0, deferred.getAttempts());
+        assertBetween(INTERVAL_MS - 1_000, INTERVAL_MS + 1_000,
+                Duration.between(before, deferred.getNextAttemptAt()).toMillis());
+    }
+
+    private MailJob enqueue(String recipient) {
+        Resume resume = new Resume();
+        resume.setId("r1");
+        resume.setTitle("Backend");
+        return mailQueue.enqueueResumeEmail(resume, recipient, "jane@example.com");
+    }
+
+    private void lock(MailJob job, Instant lockedUntil) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(job.getId())),
+                new Update().set("status", MailJob.STATUS_SENDING).set("lockedUntil", lockedUntil), MailJob.class);
+    }
+
+    private void makeDue(MailJob job) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(job.getId())),
+                new Update().set("nextAttemptAt", Instant.now()), MailJob.class);
+    }
+
+    private MailJob reload(MailJob job) {
+        return mailJobRepository.findById(job.getId()).orElseThrow();
+    }
+
+    private static void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, actual + " not in [" + min + ", " + max + "]");
+    }
+
+    private static final class StubEmailService extends EmailService {
+        final List<String> sent = new ArrayList<>();
+        boolean failing;
+
+        @Override
+        public void sendResumeEmail(String to, String subject, String body, InputStreamSource pdf, String fileName) {
+            if (failing) {
+                throw new RuntimeException("SMTP down");
+            }
+            sent.add(to);
+        }
+    }
+}
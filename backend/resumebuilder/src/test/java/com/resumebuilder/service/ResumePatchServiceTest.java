@@ -0,0 +1,192 @@
+package com.resumebuilder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.service.history.ResumeHistoryService;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumePatchServiceTest {
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private ResumePatchService patchService;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create("mongodb://localhost:" + server.bind().getPort());
+        mongoTemplate = new MongoTemplate(client, "test");
+
+        patchService = new ResumePatchService();
+        ReflectionTestUtils.setField(patchService, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(patchService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(patchService, "pdfRenderCache", new PdfRenderCache());
+        ReflectionTestUtils.setField(patchService, "resumeHistoryService", Mockito.mock(ResumeHistoryService.class));
+        ReflectionTestUtils.setField(patchService, "eventPublisher", (org.springframework.context.ApplicationEventPublisher) event -> {});
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void mergePatchMergesPersonalInfoAndReplacesOtherFields() {
+        String id = mongoTemplate.insert(resumeOf("Jane Doe")).getId();
+
+        Map<String, Object> info = new HashMap<>();
+        info.put("fullName", "Jane Smith");
+        info.put("phone", null);
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("personalInfo", info);
+        patch.put("skills", List.of("Java", "Go"));
+        patch.put("coverLetter", null);
+
+        Resume updated = patchService.mergePatch(id, patch, 0L, "jane@example.com");
+        assertEquals(1, updated.getVersion());
+
+        Resume stored = mongoTemplate.findById(id, Resume.class);
+        assertEquals("Jane Smith", stored.getPersonalInfo().getFullName());
+        assertEquals("jane@example.com", stored.getPersonalInfo().getEmail());
+        assertNull(stored.getPersonalInfo().getPhone());
+        assertEquals("Jane Smith", stored.getFullName());
+        assertEquals("Resume of Jane Smith", stored.getTitle());
+        assertEquals(List.of("Java", "Go"), stored.getSkills());
+        assertNull(stored.getCoverLetter());
+    }
+
+    @Test
+    void mergePatchRemovesPersonalInfoWithTheDerivedFields() {
+        String id = mongoTemplate.insert(resumeOf("Jane Doe")).getId();
+
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("personalInfo", null);
+        patchService.mergePatch(id, patch, null, "jane@example.com");
+
+        Resume stored = mongoTemplate.findById(id, Resume.class);
+        assertNull(stored.getPersonalInfo());
+        assertNull(stored.getFullName());
+        assertNull(stored.getTitle());
+        assertEquals("Dear team", stored.getCoverLetter());
+    }
+
+    @Test
+    void mergePatchFailsOnAStaleVersion() {
+        String id = mongoTemplate.insert(resumeOf("Jane Doe")).getId();
+        patchService.mergePatch(id, Map.of("coverLetter", "First"), 0L, "jane@example.com");
+
+        RuntimeException e = assertThrows(RuntimeException.class, () ->
+                patchService.mergePatch(id, Map.of("coverLetter", "Second"), 0L, "jane@example.com"));
+        assertTrue(e.getMessage().contains("Precondition failed"));
+
+        Resume stored = mongoTemplate.findById(id, Resume.class);
+        assertEquals("First", stored.getCoverLetter());
+        assertEquals(1, stored.getVersion());
+    }
+
+    @Test
+    void addEntryAppendsAndAssignsAnId() {
+        Resume resume = resumeOf("Jane Doe");
+        resume.setExperience(List.of(experience("e1", "Developer")));
+        resume.setSkills(List.of("Java"));
+        String id = mongoTemplate.insert(resume).getId();
+
+        patchService.addEntry(id, "experience", Map.of("company", "Initech", "position", "Lead"),
+                0L, "jane@example.com");
+        patchService.addEntry(id, "skills", "Go", 1L, "jane@example.com");
+
+        Resume stored = mongoTemplate.findById(id, Resume.class);
+        assertEquals(2, stored.getExperience().size());
+        Resume.Experience added = stored.getExperience().get(1);
+        assertEquals("Lead", added.getPosition());
+        assertNotNull(added.getId());
+        assertEquals(List.of("Java", "Go"), stored.getSkills());
+        assertEquals(2, stored.getVersion());
+    }
+
+    @Test
+    void removeEntryDropsTheEntryByIdOrValue() {
+        Resume resume = resumeOf("Jane Doe");
+        resume.setExperience(List.of(experience("e1", "Developer"), experience("e2", "Intern")));
+        resume.setSkills(List.of("Java", "Go"));
+        String id = mongoTemplate.insert(resume).getId();
+
+        patchService.removeEntry(id, "experience", "e1", null, "jane@example.com");
+        patchService.removeEntry(id, "skills", "Java", null, "jane@example.com");
+
+        Resume stored = mongoTemplate.findById(id, Resume.class);
+        assertEquals(1, stored.getExperience().size());
+        assertEquals("e2", stored.getExperience().get(0).getId());
+        assertEquals(List.of("Go"), stored.getSkills());
+    }
+
+    @Test
+    void patchEntryChangesOnlyTheTargetedEntry() {
+        Resume resume = new Resume();
+        resume.setUserEmail("jane@example.com");
+        resume.setExperience(List.of(experience("e1", "Developer"), experience("e2", "Intern")));
+        String id = mongoTemplate.insert(resume).getId();
+
+        Resume updated = patchService.patchEntry(id, "experience", "e1", Map.of("position", "Lead Developer"),
+                0L, "jane@example.com");
+        assertEquals(1, updated.getVersion());
+
+        Resume stored = mongoTemplate.findById(id, Resume.class);
+        assertEquals("Lead Developer", stored.getExperience().get(0).getPosition());
+        assertEquals("Intern", stored.getExperience().get(1).getPosition());
+        assertEquals("Acme", stored.getExperience().get(0).getCompany());
+    }
+
+    @Test
+    void patchEntryRejectsAMissingEntry() {
+        Resume resume = new Resume();
+        resume.setUserEmail("jane@example.com");
+        resume.setExperience(List.of(experience("e1", "Developer")));
+        String id = mongoTemplate.insert(resume).getId();
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> patchService.patchEntry(id, "experience",
+                "missing", Map.of("position", "Lead"), null, "jane@example.com"));
+        assertEquals("Entry not found", e.getMessage());
+        assertEquals(0, mongoTemplate.findById(id, Resume.class).getVersion());
+    }
+
+    private static Resume resumeOf(String fullName) {
+        Resume.PersonalInfo info = new Resume.PersonalInfo();
+        info.setFullName(fullName);
+        info.setEmail("jane@example.com");
+        info.setPhone("555-0100");
+
+        Resume resume = new Resume();
+        resume.setUserEmail("jane@example.com");
+        resume.setPersonalInfo(info);
+        resume.setFullName(fullName);
+        resume.setTitle("Resume of " + fullName);
+        resume.setCoverLetter("Dear team");
+        return resume;
+    }
+
+    private static Resume.Experience experience(String id, String position) {
+        Resume.Experience experience = new Resume.Experience();
+        experience.setId(id);
+        experience.setCompany("Acme");
+        experience.setPosition(position);
+        return experience;
+    }
+}
@@ -0,0 +1,96 @@
+package com.resumebuilder.service;
+
+import com.resumebuilder.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StageLimiterTest {
+
+    @Test
+    void queuesUpToTheLimitAndRejectsTheRest() throws Exception {
+        StageLimiter limiter = new StageLimiter("test", 1, 1, 1, 5_000, 2.0);
+        StageLimiter.Permit running = limiter.acquire();
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<StageLimiter.Permit> queued = pool.submit(limiter::acquire);
+            while (limiter.getQueueLength() == 0) {
+                Thread.sleep(5);
+            }
+
+            ServiceOverloadedException e = assertThrows(ServiceOverloadedException.class, limiter::acquire);
+            assertTrue(e.getRetryAfterSeconds() >= 1);
+            assertEquals(1, limiter.getRejected());
+
+            // Releasing hands the slot to the caller at the head of the queue
+            running.release();
+            queued.get().release();
+            assertEquals(0, limiter.getInFlight());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void givesUpWaitingAtTheDeadline() {
+        StageLimiter limiter = new StageLimiter("test", 1, 1, 4, 100, 2.0);
+        StageLimiter.Permit running = limiter.acquire();
+
+        long start = System.currentTimeMillis();
+        assertThrows(ServiceOverloadedException.class, limiter::acquire);
+        long waited = System.currentTimeMillis() - start;
+
+        assertTrue(waited >= 100 && waited < 2_000, "waited " + waited + "ms");
+        assertEquals(0, limiter.getQueueLength());
+        running.release();
+    }
+
+    @Test
+    void growsWhileBusyAndFastThenShrinksWhenLatencyRises() throws Exception {
+        StageLimiter limiter = new StageLimiter("test", 2, 8, 0, 0, 2.0);
+
+        // Saturated and fast: about one more slot per limit completions
+        for (int i = 0; i < 40; i++) {
+            StageLimiter.Permit[] permits = new StageLimiter.Permit[limiter.getLimit()];
+            for (int j = 0; j < permits.length; j++) {
+                permits[j] = limiter.acquire();
+            }
+            for (StageLimiter.Permit permit : permits) {
+                permit.release();
+            }
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown > 2, "limit " + grown);
+
+        // Much slower than the baseline: the limit backs off
+        StageLimiter.Permit slow = limiter.acquire();
+        Thread.sleep(30);
+        slow.release();
+        assertTrue(limiter.getLimit() < grown, "limit " + limiter.getLimit());
+    }
+
+    @Test
+    void comparesLatencyPerUnitOfWork() throws Exception {
+        StageLimiter limiter = new StageLimiter("test", 4, 4, 0, 0, 2.0);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire().release(10);
+        }
+
+        // Slow, but for a job thousands of times larger: not contention
+        StageLimiter.Permit large = limiter.acquire();
+        Thread.sleep(30);
+        large.release(10_000_000);
+        assertEquals(4, limiter.getLimit());
+
+        // The same time for ordinary work is
+        StageLimiter.Permit slow = limiter.acquire();
+        Thread.sleep(30);
+        slow.release(10);
+        assertTrue(limiter.getLimit() < 4, "limit " + limiter.getLimit());
+    }
+}
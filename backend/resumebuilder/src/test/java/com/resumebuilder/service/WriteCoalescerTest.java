@@ -0,0 +1,148 @@
+package com.resumebuilder.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteCoalescerTest {
+
+    @Test
+    void flushesAWriteForAnIdleKeyRightAway() {
+        List<List<String>> flushes = Collections.synchronizedList(new ArrayList<>());
+        WriteCoalescer<String, String, String> coalescer = new WriteCoalescer<>(true, (key, writes) -> {
+            flushes.add(List.copyOf(writes));
+            return key + ":" + writes.get(writes.size() - 1);
+        });
+
+        assertEquals("r1:a", coalescer.submit("r1", "a"));
+        assertEquals("r1:b", coalescer.submit("r1", "b"));
+        assertEquals(List.of(List.of("a"), List.of("b")), flushes);
+    }
+
+    @Test
+    void mergesWritesArrivingDuringAFlushIntoTheNextOne() throws Exception {
+        List<List<String>> flushes = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WriteCoalescer<String, String, String> coalescer = new WriteCoalescer<>(true, (key, writes) -> {
+            flushes.add(List.copyOf(writes));
+            if (writes.contains("a")) {
+                flushStarted.countDown();
+                await(release);
+            }
+            return key + ":" + writes.get(writes.size() - 1);
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = pool.submit(() -> coalescer.submit("r1", "a"));
+            flushStarted.await();
+            Future<String> second = pool.submit(() -> coalescer.submit("r1", "b"));
+            Future<String> third = pool.submit(() -> coalescer.submit("r1", "c"));
+            // Other keys are not held up by r1's flush
+            assertEquals("r2:x", pool.submit(() -> coalescer.submit("r2", "x")).get());
+            while (coalescer.getOpenBatches() == 0) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals("r1:a", first.get());
+            // Every caller in the batch reads back the flush that included its write
+            assertEquals(second.get(), third.get());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(3, flushes.size());
+        assertEquals(List.of("a"), flushes.get(0));
+        List<String> batch = flushes.stream().filter(writes -> writes.contains("b")).findFirst().orElseThrow();
+        assertEquals(2, batch.size());
+        assertTrue(batch.contains("c"));
+    }
+
+    @Test
+    void rethrowsFlushFailureToEveryCaller() throws Exception {
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WriteCoalescer<String, String, String> coalescer = new WriteCoalescer<>(true, (key, writes) -> {
+            if (writes.contains("a")) {
+                flushStarted.countDown();
+                await(release);
+                return "ok";
+            }
+            throw new RuntimeException("Resume not found");
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            Future<String> first = pool.submit(() -> coalescer.submit("r1", "a"));
+            flushStarted.await();
+            Future<String> second = pool.submit(() -> coalescer.submit("r1", "b"));
+            Future<String> third = pool.submit(() -> coalescer.submit("r1", "c"));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals("ok", first.get());
+            for (Future<String> caller : List.of(second, third)) {
+                Exception e = assertThrows(Exception.class, caller::get);
+                assertEquals("Resume not found", e.getCause().getMessage());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void closeWaitsForQueuedWritesAndThenStopsBatching() throws Exception {
+        List<List<String>> flushes = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WriteCoalescer<String, String, String> coalescer = new WriteCoalescer<>(true, (key, writes) -> {
+            flushes.add(List.copyOf(writes));
+            if (writes.contains("a")) {
+                flushStarted.countDown();
+                await(release);
+            }
+            return "ok";
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> running = pool.submit(() -> coalescer.submit("r1", "a"));
+            flushStarted.await();
+            Future<String> queued = pool.submit(() -> coalescer.submit("r1", "b"));
+            while (coalescer.getOpenBatches() == 0) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            coalescer.close(5_000);
+
+            assertTrue(running.isDone());
+            assertTrue(queued.isDone());
+            assertEquals("ok", queued.get());
+
+            // After close, writes go straight through
+            assertEquals("ok", coalescer.submit("r1", "c"));
+            assertEquals(List.of(List.of("a"), List.of("b"), List.of("c")), flushes);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
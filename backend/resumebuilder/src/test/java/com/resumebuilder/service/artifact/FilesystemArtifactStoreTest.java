@@ -0,0 +1,83 @@
+package com.resumebuilder.service.artifact;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilesystemArtifactStoreTest {
+
+    @TempDir
+    Path root;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private FilesystemArtifactStore store() {
+        return new FilesystemArtifactStore(root, Duration.ofMinutes(10), Duration.ofMinutes(1), now::get);
+    }
+
+    @Test
+    void storesIdenticalContentOnce() throws Exception {
+        FilesystemArtifactStore store = store();
+        byte[] pdf = "%PDF-1.4 same bytes".getBytes(StandardCharsets.US_ASCII);
+
+        StoredArtifact first = store.put("resume-pdf/a", "1", pdf, "application/pdf");
+        StoredArtifact second = store.put("resume-pdf/b", "7", pdf, "application/pdf");
+
+        assertEquals(first.getHash(), second.getHash());
+        assertEquals(1, countBlobs());
+
+        StoredArtifact found = store.find("resume-pdf/b");
+        assertEquals("7", found.getVersion());
+        assertArrayEquals(pdf, found.readAllBytes());
+        assertNull(store.find("resume-pdf/missing"));
+    }
+
+    @Test
+    void collectsExpiredNamesAndUnreferencedContent() throws Exception {
+        FilesystemArtifactStore store = store();
+        store.put("old", "1", "old content".getBytes(StandardCharsets.UTF_8), "text/plain");
+        store.put("kept", "1", "kept content".getBytes(StandardCharsets.UTF_8), "text/plain");
+        store.put("replaced", "1", "first".getBytes(StandardCharsets.UTF_8), "text/plain");
+        store.put("replaced", "2", "second".getBytes(StandardCharsets.UTF_8), "text/plain");
+
+        // Within the grace period nothing is collected, even unreferenced content
+        assertEquals(0, store.collectGarbage());
+
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        store.put("kept", "2", "kept content".getBytes(StandardCharsets.UTF_8), "text/plain");
+        assertEquals(1, store.collectGarbage()); // "first"
+
+        now.addAndGet(Duration.ofMinutes(7).toMillis());
+        assertNull(store.find("old"));
+        assertEquals(2, store.collectGarbage()); // "old content" and "second", both expired
+        assertArrayEquals("kept content".getBytes(StandardCharsets.UTF_8), store.find("kept").readAllBytes());
+        assertEquals(1, countBlobs());
+    }
+
+    @Test
+    void transfersARange() throws Exception {
+        FilesystemArtifactStore store = store();
+        store.put("doc", "1", "0123456789".getBytes(StandardCharsets.US_ASCII), "text/plain");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.find("doc").transferTo(3, 4, Channels.newChannel(out));
+
+        assertEquals("3456", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    private long countBlobs() throws Exception {
+        try (Stream<Path> files = Files.walk(root.resolve("blobs"))) {
+            return files.filter(f -> f.toString().endsWith(".bin")).count();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.resumebuilder.service.artifact;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridFsArtifactStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private MongoServer server;
+    private MongoClient client;
+    private GridFsTemplate gridFsTemplate;
+    private GridFsArtifactStore store;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create("mongodb://localhost:" + server.bind().getPort());
+        MongoTemplate mongoTemplate = new MongoTemplate(client, "test");
+        gridFsTemplate = new GridFsTemplate(new SimpleMongoClientDatabaseFactory(client, "test"),
+                mongoTemplate.getConverter());
+        store = new GridFsArtifactStore(gridFsTemplate, mongoTemplate, Duration.ofMinutes(10),
+                Duration.ofMinutes(1), now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void readsAndCollectsContentStoredTwiceByRacingPuts() throws Exception {
+        byte[] pdf = "%PDF-1.4 same bytes".getBytes(StandardCharsets.US_ASCII);
+        StoredArtifact artifact = store.put("resume-pdf/a", "1", pdf, "application/pdf");
+        // What a second instance storing the same new content at the same time leaves behind
+        gridFsTemplate.store(new ByteArrayInputStream(pdf), artifact.getHash(), "application/pdf",
+                new Document("touchedAt", new Date(now.get())));
+
+        assertArrayEquals(pdf, store.find("resume-pdf/a").readAllBytes());
+
+        assertEquals(1, store.collectGarbage());
+        assertEquals(1, copies(artifact.getHash()));
+        assertArrayEquals(pdf, store.find("resume-pdf/a").readAllBytes());
+    }
+
+    private int copies(String hash) {
+        return gridFsTemplate.find(new Query(Criteria.where("filename").is(hash))).into(new ArrayList<>()).size();
+    }
+}
@@ -0,0 +1,84 @@
+package com.resumebuilder.service.ats;
+
+import com.resumebuilder.model.Resume;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtsScoringEngineTest {
+
+    private final AtsScoringEngine engine = new AtsScoringEngine(new SkillDictionary());
+
+    @Test
+    void matchesSkillsThroughSynonymsAndPhrases() {
+        JobProfile job = engine.compile("We need Java, Spring Boot and K8s. Bonus: ReactJS and Terraform.");
+
+        AtsResult result = engine.score(sampleResume(), job);
+
+        assertEquals(List.of("java", "spring boot", "react", "kubernetes"), result.getMatchedSkills());
+        assertEquals(List.of("terraform"), result.getMissingSkills());
+    }
+
+    @Test
+    void completeConsistentResumeScoresAllSectionAndDatePoints() {
+        JobProfile job = engine.compile("Java developer with Kubernetes");
+
+        AtsResult result = engine.score(sampleResume(), job);
+
+        assertEquals(100.0, result.getScore());
+        assertEquals(result.getScore(), engine.quickScore(sampleResume(), job));
+    }
+
+    @Test
+    void reportsMissingSectionsAndDateProblems() {
+        Resume resume = sampleResume();
+        resume.setEducation(null);
+        resume.getExperience().get(0).setCurrent(false);
+        resume.getExperience().get(0).setEndDate("2019-01");
+
+        AtsResult result = engine.score(resume, engine.compile("Java"));
+
+        assertTrue(result.getFeedback().contains("Missing sections: education."));
+        assertTrue(result.getFeedback().contains("ends before it starts"));
+        assertEquals(60 + 20 + 0, result.getScore());
+    }
+
+    @Test
+    void parsesCommonDateFormats() {
+        assertEquals(YearMonth.of(2021, 3), AtsScoringEngine.parseDate("2021-03"));
+        assertEquals(YearMonth.of(2021, 3), AtsScoringEngine.parseDate("03/2021"));
+        assertEquals(YearMonth.of(2021, 3), AtsScoringEngine.parseDate("March 2021"));
+        assertEquals(YearMonth.of(2021, 1), AtsScoringEngine.parseDate("2021"));
+        assertNull(AtsScoringEngine.parseDate("sometime"));
+    }
+
+    private static Resume sampleResume() {
+        Resume resume = new Resume();
+
+        Resume.PersonalInfo info = new Resume.PersonalInfo();
+        info.setEmail("jane@example.com");
+        info.setSummary("Backend engineer building Spring Boot microservices on k8s.");
+        resume.setPersonalInfo(info);
+
+        Resume.Experience exp = new Resume.Experience();
+        exp.setCompany("Acme");
+        exp.setPosition("Software Engineer");
+        exp.setStartDate("2020-02");
+        exp.setCurrent(true);
+        exp.setDescription("Built React.js dashboards backed by Java services.");
+        resume.setExperience(List.of(exp));
+
+        Resume.Education edu = new Resume.Education();
+        edu.setSchool("State University");
+        edu.setDegree("BSc Computer Science");
+        edu.setStartDate("2015");
+        edu.setEndDate("2019");
+        resume.setEducation(List.of(edu));
+
+        resume.setSkills(List.of("Java", "Kubernetes"));
+        return resume;
+    }
+}
@@ -0,0 +1,85 @@
+package com.resumebuilder.service.history;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentDeltaTest {
+
+    private static Document entry(String id, String company, String description) {
+        return new Document("id", id).append("company", company).append("description", description);
+    }
+
+    private static Document resume(String summary, List<Document> experience, List<String> skills) {
+        return new Document("personalInfo", new Document("fullName", "Jane Doe").append("summary", summary))
+                .append("experience", experience)
+                .append("skills", skills);
+    }
+
+    @Test
+    void storesOnlyTheChangedEntryField() {
+        Document before = resume("Engineer", List.of(
+                entry("a", "Acme", "Built the billing service"),
+                entry("b", "Google", "Worked on search")), List.of("Java"));
+        Document after = resume("Engineer", List.of(
+                entry("a", "Acme", "Built the billing service for 2M invoices"),
+                entry("b", "Google", "Worked on search")), List.of("Java"));
+
+        Document delta = ContentDelta.diff(before, after);
+
+        assertEquals(List.of("experience"), List.copyOf(delta.keySet()));
+        Document experience = (Document) delta.get("experience");
+        assertEquals(List.of("a", "b"), experience.get(ContentDelta.ORDER));
+        List<?> changed = (List<?>) experience.get(ContentDelta.CHANGED);
+        assertEquals(1, changed.size());
+        assertEquals(new Document("description", "Built the billing service for 2M invoices"),
+                ((Document) changed.get(0)).get("delta"));
+
+        assertEquals(after, ContentDelta.apply(before, delta));
+    }
+
+    @Test
+    void roundTripsAddedRemovedAndReorderedContent() {
+        Document before = resume("Engineer", List.of(
+                entry("a", "Acme", "Billing"),
+                entry("b", "Google", "Search")), List.of("Java", "Go"));
+        before.append("coverLetter", "Dear hiring manager");
+
+        Document after = resume("Staff engineer", List.of(
+                entry("c", "Stripe", "Payments"),
+                entry("b", "Google", "Search ranking")), List.of("Go", "Kafka"));
+        ((Document) after.get("personalInfo")).remove("fullName");
+        after.append("template", "Modern");
+
+        Document delta = ContentDelta.diff(before, after);
+
+        assertTrue(delta.containsKey("coverLetter"));
+        assertNull(delta.get("coverLetter"));
+        assertEquals(after, ContentDelta.apply(before, delta));
+        assertEquals(before, resume("Engineer", List.of(
+                entry("a", "Acme", "Billing"),
+                entry("b", "Google", "Search")), List.of("Java", "Go")).append("coverLetter", "Dear hiring manager"));
+    }
+
+    @Test
+    void equalContentHasEmptyDelta() {
+        Document content = resume("Engineer", List.of(entry("a", "Acme", "Billing")), List.of("Java"));
+        Document copy = resume("Engineer", List.of(entry("a", "Acme", "Billing")), List.of("Java"));
+
+        assertTrue(ContentDelta.diff(content, copy).isEmpty());
+    }
+
+    @Test
+    void replacesListsWithoutDistinctIds() {
+        Document before = resume("Engineer", List.of(entry("a", "Acme", "x"), entry("a", "Acme", "y")), List.of());
+        Document after = resume("Engineer", List.of(entry("a", "Acme", "z")), List.of());
+
+        Document delta = ContentDelta.diff(before, after);
+
+        assertEquals(after.get("experience"), delta.get("experience"));
+        assertEquals(after, ContentDelta.apply(before, delta));
+    }
+}
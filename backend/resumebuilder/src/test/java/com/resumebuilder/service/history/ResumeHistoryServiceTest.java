@@ -0,0 +1,97 @@
+package com.resumebuilder.service.history;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.resumebuilder.model.Resume;
+import com.resumebuilder.model.ResumeVersion;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeHistoryServiceTest {
+
+    // Runs queued work only when the test says so
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private ResumeHistoryService history;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create("mongodb://localhost:" + server.bind().getPort());
+        mongoTemplate = new MongoTemplate(client, "test");
+
+        history = new ResumeHistoryService();
+        ReflectionTestUtils.setField(history, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(history, "executor", (TaskExecutor) queued::add);
+        ReflectionTestUtils.setField(history, "enabled", true);
+        ReflectionTestUtils.setField(history, "checkpointInterval", 20);
+        ReflectionTestUtils.setField(history, "mergeWindowMs", 300_000L);
+        ReflectionTestUtils.setField(history, "maxPending", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void recordsASavedResume() {
+        history.record(mongoTemplate.insert(resume()));
+        runQueued();
+
+        assertEquals(1, mongoTemplate.count(new Query(), ResumeVersion.class));
+    }
+
+    @Test
+    void deletingHistoryDropsSavesStillQueued() {
+        Resume saved = mongoTemplate.insert(resume());
+        history.record(saved);
+
+        mongoTemplate.remove(saved);
+        history.deleteHistory(saved.getId());
+        runQueued();
+
+        assertEquals(0, mongoTemplate.count(new Query(), ResumeVersion.class));
+    }
+
+    @Test
+    void skipsResumesDeletedBeforeTheirSaveIsRecorded() {
+        Resume saved = mongoTemplate.insert(resume());
+        history.record(saved);
+
+        // Deleted without going through deleteHistory, e.g. by another instance
+        mongoTemplate.remove(saved);
+        runQueued();
+
+        assertEquals(0, mongoTemplate.count(new Query(), ResumeVersion.class));
+    }
+
+    private void runQueued() {
+        while (!queued.isEmpty()) {
+            queued.remove(0).run();
+        }
+    }
+
+    private static Resume resume() {
+        Resume resume = new Resume();
+        resume.setUserEmail("jane@example.com");
+        resume.setTitle("Backend");
+        return resume;
+    }
+}
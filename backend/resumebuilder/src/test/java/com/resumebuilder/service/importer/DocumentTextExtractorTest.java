@@ -0,0 +1,49 @@
+package com.resumebuilder.service.importer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentTextExtractorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsParagraphsAndBreaks() throws Exception {
+        Path file = docx("<w:p><w:r><w:t>Jane</w:t><w:tab/><w:t xml:space=\"preserve\"> Doe</w:t></w:r></w:p>"
+                + "<w:p><w:r><w:t>Engineer</w:t><w:br/><w:t>Berlin</w:t></w:r></w:p>");
+
+        assertEquals(List.of("Jane\t Doe", "Engineer", "Berlin"), DocumentTextExtractor.docxLines(file, 1000));
+    }
+
+    @Test
+    void stopsReadingARunAtTheCharacterBudget() throws Exception {
+        Path file = docx("<w:p><w:r><w:t>" + "x".repeat(2_000_000) + "</w:t></w:r></w:p>"
+                + "<w:p><w:r><w:t>never read</w:t></w:r></w:p>");
+
+        List<String> lines = DocumentTextExtractor.docxLines(file, 100);
+
+        assertEquals(List.of("x".repeat(100)), lines);
+    }
+
+    private Path docx(String body) throws Exception {
+        Path file = dir.resolve("resume.docx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                    + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+                    + "<w:body>" + body + "</w:body></w:document>").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return file;
+    }
+}
@@ -0,0 +1,111 @@
+package com.resumebuilder.service.importer;
+
+import com.resumebuilder.dto.ResumeRequest;
+import com.resumebuilder.model.Resume;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeSectionParserTest {
+
+    @Test
+    void readsHeaderContactDetails() {
+        ResumeRequest request = ResumeSectionParser.parse(List.of(
+                "PRASHANT SHARMA",
+                "Java Backend Developer",
+                "+91 7302083744  |  prashant@example.com  |  Moradabad, India  |  https://www.linkedin.com/in/prashant",
+                "SUMMARY",
+                "Backend developer skilled in Java",
+                "and Spring Boot."));
+
+        Resume.PersonalInfo info = request.getPersonalInfo();
+        assertEquals("PRASHANT SHARMA", info.getFullName());
+        assertEquals("Java Backend Developer", info.getJobTitle());
+        assertEquals("+91 7302083744", info.getPhone());
+        assertEquals("prashant@example.com", info.getEmail());
+        assertEquals("Moradabad, India", info.getLocation());
+        assertEquals("https://www.linkedin.com/in/prashant", info.getWebsite());
+        assertEquals("LinkedIn", request.getSocialLinks().get(0).getPlatform());
+        assertEquals("Backend developer skilled in Java and Spring Boot.", info.getSummary());
+    }
+
+    @Test
+    void splitsExperienceOnDateRanges() {
+        ResumeRequest request = ResumeSectionParser.parse(List.of(
+                "Jane Doe",
+                "Work Experience",
+                "Senior Software Engineer",
+                "Acme Corp  |  Jan 2021 - Present",
+                "• Built the billing service",
+                "  handling 2M invoices a month",
+                "• Led a team of four",
+                "Google | Software Engineer | 06/2018 – 12/2020",
+                "• Worked on search ranking"));
+
+        List<Resume.Experience> experience = request.getExperience();
+        assertEquals(2, experience.size());
+
+        Resume.Experience first = experience.get(0);
+        assertEquals("Senior Software Engineer", first.getPosition());
+        assertEquals("Acme Corp", first.getCompany());
+        assertEquals("Jan 2021", first.getStartDate());
+        assertEquals("Present", first.getEndDate());
+        assertTrue(first.isCurrent());
+        assertEquals("Built the billing service handling 2M invoices a month\nLed a team of four", first.getDescription());
+
+        Resume.Experience second = experience.get(1);
+        assertEquals("Software Engineer", second.getPosition());
+        assertEquals("Google", second.getCompany());
+        assertEquals("06/2018", second.getStartDate());
+        assertEquals("12/2020", second.getEndDate());
+        assertFalse(second.isCurrent());
+    }
+
+    @Test
+    void readsEducationProjectsAndLists() {
+        ResumeRequest request = ResumeSectionParser.parse(List.of(
+                "Jane Doe",
+                "EDUCATION",
+                "Bachelor of Computer Applications (BCA)",
+                "Teerthanker Mahaveer University  |  Sep 2022 - Sep 2025",
+                "CGPA: 8.05/10",
+                "PROJECTS",
+                "Resume Builder",
+                "Full Stack Developer | https://github.com/jane/resume-builder",
+                "- Built REST APIs for resume editing",
+                "Technical Skills:",
+                "Languages: Java, Python; SQL",
+                "Frameworks: Spring Boot, React, java",
+                "Certifications: AWS Cloud Practitioner, Oracle Java SE 11",
+                "LANGUAGES",
+                "English, Hindi"));
+
+        Resume.Education edu = request.getEducation().get(0);
+        assertEquals("Bachelor of Computer Applications (BCA)", edu.getDegree());
+        assertEquals("Teerthanker Mahaveer University", edu.getSchool());
+        assertEquals("Sep 2022", edu.getStartDate());
+        assertEquals("Sep 2025", edu.getEndDate());
+        assertEquals("CGPA: 8.05/10", edu.getDescription());
+
+        Resume.Project project = request.getProjects().get(0);
+        assertEquals("Resume Builder", project.getName());
+        assertEquals("Full Stack Developer", project.getRole());
+        assertEquals("https://github.com/jane/resume-builder", project.getLink());
+        assertEquals("Built REST APIs for resume editing", project.getDescription());
+
+        assertEquals(List.of("Java", "Python", "SQL", "Spring Boot", "React"), request.getSkills());
+        assertEquals(List.of("AWS Cloud Practitioner", "Oracle Java SE 11"), request.getCertifications());
+        assertEquals(List.of("English", "Hindi"), request.getLanguages());
+    }
+
+    @Test
+    void recognisesHeadingVariants() {
+        assertEquals(ResumeSectionParser.Section.EXPERIENCE, ResumeSectionParser.headingOf("PROFESSIONAL EXPERIENCE"));
+        assertEquals(ResumeSectionParser.Section.SKILLS, ResumeSectionParser.headingOf("TECHNICAL SKILLS & TOOLS"));
+        assertEquals(ResumeSectionParser.Section.SUMMARY, ResumeSectionParser.headingOf("Profile:"));
+        assertNull(ResumeSectionParser.headingOf("Built the skills matrix for 2024"));
+        assertNull(ResumeSectionParser.headingOf("Experienced engineer"));
+    }
+}
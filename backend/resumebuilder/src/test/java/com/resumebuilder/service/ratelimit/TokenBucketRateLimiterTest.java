@@ -0,0 +1,87 @@
+package com.resumebuilder.service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final InMemoryBucketStore store = new InMemoryBucketStore();
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(store, now::get);
+
+    // 3 tokens, one more every second
+    private final TokenBucketRateLimiter.Rule rule = TokenBucketRateLimiter.Rule.perMinute(3, 60);
+
+    @Test
+    void allowsABurstOfCapacityThenRefillsOneTokenPerInterval() {
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            TokenBucketRateLimiter.Decision decision = limiter.tryAcquire("pdf:user:a", rule);
+            assertTrue(decision.isAllowed());
+            assertEquals(remaining, decision.getRemaining());
+        }
+
+        TokenBucketRateLimiter.Decision rejected = limiter.tryAcquire("pdf:user:a", rule);
+        assertFalse(rejected.isAllowed());
+        assertEquals(1000, rejected.getRetryAfterMs());
+
+        // Other clients have buckets of their own
+        assertTrue(limiter.tryAcquire("pdf:user:b", rule).isAllowed());
+
+        now.addAndGet(400);
+        assertEquals(600, limiter.tryAcquire("pdf:user:a", rule).getRetryAfterMs());
+
+        now.addAndGet(600);
+        assertTrue(limiter.tryAcquire("pdf:user:a", rule).isAllowed());
+        assertFalse(limiter.tryAcquire("pdf:user:a", rule).isAllowed());
+    }
+
+    @Test
+    void concurrentRequestsNeverGetMoreThanTheBucketHolds() throws Exception {
+        TokenBucketRateLimiter.Rule big = TokenBucketRateLimiter.Rule.perMinute(50, 1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> workers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                workers.add(pool.submit(() -> {
+                    int allowed = 0;
+                    for (int j = 0; j < 100; j++) {
+                        if (limiter.tryAcquire("login:ip:10.0.0.1", big).isAllowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+
+            int total = 0;
+            for (Future<Integer> worker : workers) {
+                total += worker.get();
+            }
+            assertEquals(50, total);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void evictsOnlyBucketsThatHaveRefilled() {
+        limiter.tryAcquire("api:user:a", rule);
+        now.addAndGet(500);
+        limiter.tryAcquire("api:user:b", rule);
+
+        now.addAndGet(600);
+        limiter.evictFull();
+
+        assertEquals(1, store.size());
+        assertEquals(0, store.get("api:user:a"));
+        assertNotEquals(0, store.get("api:user:b"));
+    }
+}
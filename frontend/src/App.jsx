@@ -9,11 +9,28 @@ import Signup from './components/Signup.jsx';
 import { createEmptyResume } from './types.js';
 
 import { api } from './services/api';
+import { buildSaveOps, rebaseResume } from './services/resumeSync.js';
 
 import html2canvas from 'html2canvas';
 import { jsPDF } from 'jspdf';
 
 
+// Times a save is replayed onto a newer server copy before it waits for the next edit
+const MAX_SAVE_ATTEMPTS = 3;
+
+// Send the save requests in order, each guarded by the version the previous one produced
+const sendSaveOps = async (id, ops, version) => {
+  for (const op of ops) {
+    let result;
+    if (op.type === 'patch') result = await api.patchResume(id, op.patch, version);
+    else if (op.type === 'patchEntry') result = await api.patchResumeEntry(id, op.section, op.entryId, op.patch, version);
+    else if (op.type === 'addEntry') result = await api.addResumeEntry(id, op.section, op.entry, version);
+    else result = await api.removeResumeEntry(id, op.section, op.entryId, version);
+    version = result.version;
+  }
+  return version;
+};
+
 // ---------- Empty Resume Creator ----------
 // Moved to types.js - import createEmptyResume above
 
@@ -29,10 +46,20 @@ export default function App() {
   const [isDownloadingPdf, setIsDownloadingPdf] = useState(false);
 
   const [isSaving, setIsSaving] = useState(false);
+  // Edits another tab or device made to the same fields; autosave waits until the user picks a side
+  const [saveConflict, setSaveConflict] = useState(null);
   const saveTimeoutRef = useRef(null);
+  // Last state known to be on the server, used to send only what changed
+  const lastSyncedRef = useRef(null);
 
   const resumePreviewRef = useRef(null);
 
+  // Store the template on the resume too, so server-side PDFs use the same one
+  const applyTemplate = (template) => {
+    setSelectedTemplate(template);
+    setUserResume(prev => ({ ...prev, template }));
+  };
+
 
   // ---------- Load Saved Data & Check Auth ----------
   useEffect(() => {
@@ -103,9 +130,13 @@ export default function App() {
 
   const loadUserResume = async () => {
     try {
-      const resumes = await api.getMyResumes();
-      if (resumes && resumes.length > 0) {
-        setUserResume(resumes[0]);
+      // Only the most recent resume is opened, so fetch just its summary and then the full document
+      const page = await api.getResumeSummaries(null, 1);
+      if (page.items && page.items.length > 0) {
+        const resume = await api.getResume(page.items[0].id);
+        lastSyncedRef.current = resume;
+        setUserResume(resume);
+        if (resume.template) setSelectedTemplate(resume.template);
       }
       // If no resume, create one via save logic or keep default
     } catch (e) {
@@ -119,8 +150,8 @@ export default function App() {
 
     localStorage.setItem('my_resume_app_data', JSON.stringify(userResume));
 
-    // Backend Sync (Debounced)
-    if (isAuthenticated) {
+    // Backend Sync (Debounced), paused while a conflict is waiting for the user
+    if (isAuthenticated && !saveConflict) {
       if (saveTimeoutRef.current) clearTimeout(saveTimeoutRef.current);
 
       saveTimeoutRef.current = setTimeout(async () => {
@@ -129,11 +160,16 @@ export default function App() {
           // Check if it has Mongo ID (24 hex chars)
           const isMongoId = /^[0-9a-fA-F]{24}$/.test(userResume.id);
 
+          const synced = lastSyncedRef.current;
+
           if (isMongoId) {
-            await api.updateResume(userResume.id, userResume);
+            // Without a synced copy from this tab, diff against the server's instead of overwriting it
+            const base = synced && synced.id === userResume.id ? synced : await api.getResume(userResume.id);
+            await saveResume(base, userResume);
           } else {
             // Create new
             const saved = await api.createResume(userResume);
+            lastSyncedRef.current = { ...userResume, id: saved.id, version: saved.version };
             // Update ID to avoid creating duplicates
             setUserResume(prev => ({ ...prev, id: saved.id }));
           }
@@ -156,7 +192,62 @@ export default function App() {
       root.style.setProperty('--theme-primary', userResume.themeColor);
     }
 
-  }, [userResume, isAuthenticated]);
+  }, [userResume, isAuthenticated, saveConflict]);
+
+  // Save the edits made since base. When another tab or device saved first, replay
+  // them onto the server's copy; edits to the same fields are left to the user.
+  const saveResume = async (base, local) => {
+    for (let attempt = 1; ; attempt++) {
+      try {
+        const ops = buildSaveOps(base, local);
+        const version = ops.length > 0 ? await sendSaveOps(local.id, ops, base.version) : base.version;
+        lastSyncedRef.current = { ...local, version };
+        return;
+      } catch (e) {
+        if (!e.conflict || attempt >= MAX_SAVE_ATTEMPTS) throw e;
+      }
+
+      const remote = await api.getResume(local.id);
+      const { merged, conflicts } = rebaseResume(base, local, remote);
+      // Keep anything typed while the save was in flight
+      setUserResume(current => (current === local ? merged : rebaseResume(local, current, merged).merged));
+      lastSyncedRef.current = remote;
+      if (conflicts.length > 0) {
+        setSaveConflict({ remote, conflicts });
+        return;
+      }
+      base = remote;
+      local = merged;
+    }
+  };
+
+  // Overwrite the conflicting fields with this tab's values, still guarded by the server's version
+  const keepLocalVersion = async () => {
+    const { remote } = saveConflict;
+    try {
+      const ops = buildSaveOps(remote, userResume);
+      const version = ops.length > 0 ? await sendSaveOps(userResume.id, ops, remote.version) : remote.version;
+      lastSyncedRef.current = { ...userResume, version };
+      setSaveConflict(null);
+    } catch (e) {
+      if (!e.conflict) {
+        console.error("Save failed", e);
+        return;
+      }
+      // Changed again meanwhile; resolve against the newest copy
+      const latest = await api.getResume(userResume.id);
+      const { merged, conflicts } = rebaseResume(remote, userResume, latest);
+      setUserResume(merged);
+      lastSyncedRef.current = latest;
+      setSaveConflict(conflicts.length > 0 ? { remote: latest, conflicts } : null);
+    }
+  };
+
+  const loadServerVersion = () => {
+    lastSyncedRef.current = saveConflict.remote;
+    setUserResume(saveConflict.remote);
+    setSaveConflict(null);
+  };
 
 
   // ---------- Theme Toggle ----------
@@ -206,6 +297,7 @@ export default function App() {
     setIsAuthenticated(false);
     setActivePage('home');
     setAuthMode(null);
+    lastSyncedRef.current = null;
     setUserResume(createEmptyResume());
   };
 
@@ -365,11 +457,25 @@ export default function App() {
         {activePage === 'edit' && isAuthenticated && (
           <div className="max-w-[1600px] mx-auto px-6 grid grid-cols-1 lg:grid-cols-2 gap-12 animate-fade-up">
             <div className="space-y-8">
+              {saveConflict && (
+                <div className="glass-card p-6 rounded-[2rem] border border-amber-300 dark:border-amber-700">
+                  <p className="text-sm font-bold text-slate-900 dark:text-white">
+                    This resume was also changed somewhere else. Autosave is paused.
+                  </p>
+                  <p className="text-xs text-slate-500 mt-2">
+                    Changed in both places: {saveConflict.conflicts.join(', ')}
+                  </p>
+                  <div className="flex gap-3 mt-4">
+                    <button onClick={keepLocalVersion} className="px-4 py-2 rounded-xl bg-slate-900 text-white text-xs font-bold dark:bg-white dark:text-slate-900">Keep my version</button>
+                    <button onClick={loadServerVersion} className="px-4 py-2 rounded-xl border border-slate-300 text-xs font-bold text-slate-600 dark:text-slate-300">Load saved version</button>
+                  </div>
+                </div>
+              )}
               <SidebarForm
                 data={userResume}
                 setData={setUserResume}
                 template={selectedTemplate}
-                setTemplate={setSelectedTemplate}
+                setTemplate={applyTemplate}
               />
             </div>
             <div className="hidden lg:block sticky top-28 h-[calc(100vh-140px)]">
@@ -400,7 +506,7 @@ export default function App() {
             <AtsLab
               resume={userResume}
               onImport={(newData) => setUserResume(newData)}
-              onApplyTemplate={setSelectedTemplate}
+              onApplyTemplate={applyTemplate}
             />
 
           </div>
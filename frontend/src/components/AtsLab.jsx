@@ -1,5 +1,6 @@
 import React, { useState, useRef } from "react";
-import { checkAtsScore, parseResumeFromBinary } from "../geminiService.js";
+import { checkAtsScore } from "../geminiService.js";
+import { api } from "../services/api";
 
 // Circular Progress Component
 const CircularProgress = ({
@@ -99,77 +100,57 @@ export default function AtsLab({ resume, onImport, onApplyTemplate }) {
     setIsLoading(true);
 
     try {
-      const reader = new FileReader();
-
-      reader.onload = async (event) => {
-        const result = event.target && event.target.result;
-
-        if (typeof result !== "string") {
-          alert("Failed to read file");
-          return;
-        }
-
-        const base64 = result.split(",")[1];
-
-        try {
-          const parsedData = await parseResumeFromBinary(base64, file.type);
-
-          if (parsedData) {
-            const newResume = {
-              ...resume,
-              ...parsedData, // Overlay parsed data
-
-              personalInfo: {
-                ...resume.personalInfo,
-                ...(parsedData.personalInfo || {}),
-              },
-
-              experience: (parsedData.experience || []).map((i) => ({
-                ...i,
-                id: createId(),
-                current: i.current ?? false,
-              })),
-
-              education: (parsedData.education || []).map((i) => ({
-                ...i,
-                id: createId(),
-                description: i.description ?? "",
-              })),
-
-              projects: (parsedData.projects || []).map((i) => ({
-                ...i,
-                id: createId(),
-                link: i.link ?? "",
-                type: i.type ?? "Key",
-              })),
-
-              socialLinks: (parsedData.socialLinks || []).map((i) => ({
-                ...i,
-                id: createId(),
-              })),
-
-              skills: (parsedData.skills && parsedData.skills.length > 0) ? parsedData.skills : resume.skills,
-              certifications: (parsedData.certifications && parsedData.certifications.length > 0) ? parsedData.certifications : resume.certifications,
-              languages: (parsedData.languages && parsedData.languages.length > 0) ? parsedData.languages : resume.languages,
-            };
-
-            await startAnalysis(newResume);
-            onImport(newResume);
-          }
-        } catch (error) {
-          const errorMsg = error?.message || "Error reading file. Please use a clean PDF.";
-          console.error("Resume Import Error Details:", error);
-          setUiMessage({ title: "Import Failed", text: errorMsg, type: "error" });
-          setTimeout(() => setUiMessage(null), 8000);
-        } finally {
-          setIsImporting(false);
-          setIsLoading(false);
-        }
-      };
-
-      reader.readAsDataURL(file);
-    } catch (err) {
-      console.error(err);
+      const parsedData = await api.importResume(file);
+
+      if (parsedData) {
+        const newResume = {
+          ...resume,
+          // Overlay parsed data; fields the import could not find keep their current value
+          ...Object.fromEntries(Object.entries(parsedData).filter(([, v]) => v !== null)),
+
+          personalInfo: {
+            ...resume.personalInfo,
+            ...Object.fromEntries(Object.entries(parsedData.personalInfo || {}).filter(([, v]) => v !== null)),
+          },
+
+          experience: (parsedData.experience || []).map((i) => ({
+            ...i,
+            id: createId(),
+            current: i.current ?? false,
+          })),
+
+          education: (parsedData.education || []).map((i) => ({
+            ...i,
+            id: createId(),
+            description: i.description ?? "",
+          })),
+
+          projects: (parsedData.projects || []).map((i) => ({
+            ...i,
+            id: createId(),
+            link: i.link ?? "",
+            type: i.type ?? "Key",
+          })),
+
+          socialLinks: (parsedData.socialLinks || []).map((i) => ({
+            ...i,
+            id: createId(),
+          })),
+
+          skills: (parsedData.skills && parsedData.skills.length > 0) ? parsedData.skills : resume.skills,
+          certifications: (parsedData.certifications && parsedData.certifications.length > 0) ? parsedData.certifications : resume.certifications,
+          languages: (parsedData.languages && parsedData.languages.length > 0) ? parsedData.languages : resume.languages,
+        };
+
+        await startAnalysis(newResume);
+        onImport(newResume);
+      }
+    } catch (error) {
+      const errorMsg = error?.message || "Error reading file. Please use a clean PDF.";
+      console.error("Resume Import Error Details:", error);
+      setUiMessage({ title: "Import Failed", text: errorMsg, type: "error" });
+      setTimeout(() => setUiMessage(null), 8000);
+    } finally {
       setIsImporting(false);
       setIsLoading(false);
     }
@@ -211,7 +192,7 @@ export default function AtsLab({ resume, onImport, onApplyTemplate }) {
             ref={fileInputRef}
             onChange={handleFileUpload}
             className="hidden"
-            accept=".pdf,.docx,.doc"
+            accept=".pdf,.docx"
           />
 
           <button
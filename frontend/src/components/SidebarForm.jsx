@@ -1,9 +1,15 @@
 import React, { useState, useRef } from 'react';
-import { optimizeSummary, parseResumeFromBinary, checkAtsScore, generateCoverLetter, optimizeResumeForAts } from '../geminiService';
+import { optimizeSummary, checkAtsScore, generateCoverLetter, optimizeResumeForAts } from '../geminiService';
+import { api } from '../services/api';
 import ColorPicker from './ColorPicker';
 import ManualResumeImport from './ManualResumeImport';
 import ATSReviewModal from './ATSReviewModal';
 
+// Drops fields the import could not find, so they don't blank out what the user already typed
+const withoutEmpty = (fields) => Object.fromEntries(
+    Object.entries(fields || {}).filter(([, value]) => value !== null && value !== undefined && value !== '')
+);
+
 const EliteInput = ({ label, value, onChange, placeholder = "", type = "text" }) => (
     <div className="elite-input-container">
         <input
@@ -96,101 +102,81 @@ export default function SidebarForm({ data, setData, template, setTemplate }) {
         setIsImporting(true);
         setAtsResult(null);
         try {
-            const reader = new FileReader();
-            reader.onload = async (event) => {
-                const result = event.target?.result;
-                if (typeof result !== 'string') return;
-                const base64 = result.split(',')[1];
+            const parsedData = await api.importResume(file);
+            if (parsedData) {
+                const mappedExperience = (parsedData.experience || []).map((exp) => ({
+                    id: Math.random().toString(36).substr(2, 9),
+                    company: exp.company || '',
+                    position: exp.position || '',
+                    startDate: exp.startDate || '',
+                    endDate: exp.endDate || '',
+                    description: exp.description || '',
+                    current: !!exp.current
+                }));
+
+                const mappedEducation = (parsedData.education || []).map((edu) => ({
+                    id: Math.random().toString(36).substr(2, 9),
+                    school: edu.school || '',
+                    degree: edu.degree || '',
+                    startDate: edu.startDate || '',
+                    endDate: edu.endDate || '',
+                    description: edu.description || ''
+                }));
+
+                const mappedProjects = (parsedData.projects || []).map((p) => ({
+                    id: Math.random().toString(36).substr(2, 9),
+                    name: p.name || '',
+                    role: p.role || '',
+                    link: p.link || '',
+                    description: p.description || '',
+                    type: p.type || 'Key'
+                }));
+
+                const mappedSocialLinks = (parsedData.socialLinks || []).map((s) => ({
+                    id: Math.random().toString(36).substr(2, 9),
+                    platform: s.platform || '',
+                    url: s.url || ''
+                }));
+
+                const updatedResume = {
+                    ...data,
+                    personalInfo: { ...data.personalInfo, ...withoutEmpty(parsedData.personalInfo) },
+                    experience: mappedExperience.length > 0 ? mappedExperience : data.experience,
+                    education: mappedEducation.length > 0 ? mappedEducation : data.education,
+                    projects: mappedProjects.length > 0 ? mappedProjects : data.projects,
+                    socialLinks: mappedSocialLinks.length > 0 ? mappedSocialLinks : data.socialLinks,
+                    skills: (parsedData.skills && parsedData.skills.length > 0) ? parsedData.skills : data.skills,
+                    certifications: (parsedData.certifications && parsedData.certifications.length > 0) ? parsedData.certifications : data.certifications,
+                    languages: (parsedData.languages && parsedData.languages.length > 0) ? parsedData.languages : data.languages,
+                };
+                setData(updatedResume);
+
+                // ATS Check - Show detailed review after import
                 try {
-                    const parsedData = await parseResumeFromBinary(base64, file.type);
-                    if (parsedData) {
-                        const mappedExperience = (parsedData.experience || []).map((exp) => ({
-                            id: Math.random().toString(36).substr(2, 9),
-                            company: exp.company || '',
-                            position: exp.position || '',
-                            startDate: exp.startDate || '',
-                            endDate: exp.endDate || '',
-                            description: exp.description || '',
-                            current: !!exp.current
-                        }));
-
-                        const mappedEducation = (parsedData.education || []).map((edu) => ({
-                            id: Math.random().toString(36).substr(2, 9),
-                            school: edu.school || '',
-                            degree: edu.degree || '',
-                            startDate: edu.startDate || '',
-                            endDate: edu.endDate || '',
-                            description: edu.description || ''
-                        }));
-
-                        const mappedProjects = (parsedData.projects || []).map((p) => ({
-                            id: Math.random().toString(36).substr(2, 9),
-                            name: p.name || '',
-                            role: p.role || '',
-                            link: p.link || '',
-                            description: p.description || '',
-                            type: p.type || 'Key'
-                        }));
-
-                        const mappedSocialLinks = (parsedData.socialLinks || []).map((s) => ({
-                            id: Math.random().toString(36).substr(2, 9),
-                            platform: s.platform || '',
-                            url: s.url || ''
-                        }));
-
-                        const updatedResume = {
-                            ...data,
-                            personalInfo: { ...data.personalInfo, ...(parsedData.personalInfo || {}) },
-                            experience: mappedExperience.length > 0 ? mappedExperience : data.experience,
-                            education: mappedEducation.length > 0 ? mappedEducation : data.education,
-                            projects: mappedProjects.length > 0 ? mappedProjects : data.projects,
-                            socialLinks: mappedSocialLinks.length > 0 ? mappedSocialLinks : data.socialLinks,
-                            skills: (parsedData.skills && parsedData.skills.length > 0) ? parsedData.skills : data.skills,
-                            certifications: (parsedData.certifications && parsedData.certifications.length > 0) ? parsedData.certifications : data.certifications,
-                            languages: (parsedData.languages && parsedData.languages.length > 0) ? parsedData.languages : data.languages,
-                        };
-                        setData(updatedResume);
-
-                        // ATS Check - Show detailed review after import
-                        try {
-                            const scoreResult = await checkAtsScore(updatedResume);
-                            if (scoreResult) {
-                                setAtsResult(scoreResult);
-                                // Also update the main data state so it shows in the preview
-                                setData(prev => ({ ...prev, atsScore: scoreResult.score }));
-                                // Automatically show the comprehensive review modal
-                                setShowATSReview(true);
-                            }
-                        } catch (atsError) {
-                            if (isQuotaError(atsError)) {
-                                setQuotaExceeded(true);
-                                console.warn("ATS analysis skipped due to API quota.");
-                            } else {
-                                console.warn("ATS Analysis skipped/failed:", atsError);
-                            }
-                        }
+                    const scoreResult = await checkAtsScore(updatedResume);
+                    if (scoreResult) {
+                        setAtsResult(scoreResult);
+                        // Also update the main data state so it shows in the preview
+                        setData(prev => ({ ...prev, atsScore: scoreResult.score }));
+                        // Automatically show the comprehensive review modal
+                        setShowATSReview(true);
                     }
-                } catch (err) {
-                    const errorMsg = getErrorMessage(err) || "Error reading file.";
-                    if (isQuotaError(err)) {
+                } catch (atsError) {
+                    if (isQuotaError(atsError)) {
                         setQuotaExceeded(true);
-                        console.warn("Resume import blocked by API quota:", errorMsg);
-                        showQuotaAlert();
+                        console.warn("ATS analysis skipped due to API quota.");
                     } else {
-                        console.error("Resume Import Error Details:", err);
-                        console.error("Error stack:", err?.stack);
-                        showStatus("Import Failed", errorMsg);
+                        console.warn("ATS Analysis skipped/failed:", atsError);
                     }
-                } finally {
-                    setIsImporting(false);
-                    // Reset file input
-                    if (fileInputRef.current) fileInputRef.current.value = '';
                 }
-            };
-            reader.readAsDataURL(file);
+            }
         } catch (err) {
-            console.error("File upload error:", err);
+            console.error("Resume Import Error Details:", err);
+            showStatus("Import Failed", getErrorMessage(err) || "Error reading file.");
+        } finally {
             setIsImporting(false);
+            // Reset file input
+            if (fileInputRef.current) fileInputRef.current.value = '';
         }
     };
 
@@ -445,7 +431,7 @@ export default function SidebarForm({ data, setData, template, setTemplate }) {
                     >
                         {isSaving ? 'Saving...' : saveSuccess ? '✓ Saved' : 'Save'}
                     </button>
-                    <input type="file" ref={fileInputRef} onChange={handleFileUpload} className="hidden" />
+                    <input type="file" ref={fileInputRef} onChange={handleFileUpload} accept=".pdf,.docx" className="hidden" />
                     <button
                         onClick={() => fileInputRef.current?.click()}
                         disabled={isImporting || quotaExceeded}
@@ -2,26 +2,6 @@ import { GoogleGenAI, Type } from "@google/genai";
 import { } from "./types";
 
 
-// Empty data structure for fallback when API quota is exceeded
-const MOCK_PARSED_RESUME = {
-  personalInfo: {
-    fullName: "",
-    email: "",
-    phone: "",
-    location: "",
-    website: "",
-    jobTitle: "",
-    summary: ""
-  },
-  experience: [],
-  education: [],
-  projects: [],
-  skills: [],
-  certifications: [],
-  languages: [],
-  socialLinks: []
-};
-
 const MOCK_ATS_RESULT = {
   score: 0,
   rating: "N/A",
@@ -192,111 +172,7 @@ async function callWithRetry(fn, retries = 2, delay = 1500) {
 }
 
 // ------------------------------------------------------------------
-// 1. Resume Parsing Logic
-// ------------------------------------------------------------------
-export const parseResumeFromBinary = async (base64Data, mimeType) => {
-  const result = await callWithRetry(async () => {
-    if (!base64Data) throw new Error("No file data provided");
-
-    // User requested structure (internal prompt schema)
-    const PROMPT_SCHEMA = {
-      personalInfo: {
-        fullName: "", email: "", phone: "", location: "", linkedin: "", portfolio: ""
-      },
-      summary: "",
-      skills: [],
-      experience: [
-        { jobTitle: "", company: "", location: "", startDate: "", endDate: "", responsibilities: [] }
-      ],
-      education: [
-        { degree: "", institution: "", startYear: "", endYear: "" }
-      ],
-      projects: [
-        { title: "", description: "", technologies: [] }
-      ],
-      certifications: [],
-      languages: []
-    };
-
-    const response = await ai.models.generateContent({
-      model: DEFAULT_MODEL,
-      contents: [
-        {
-          parts: [
-            { inlineData: { data: base64Data, mimeType: mimeType || "application/pdf" } },
-            {
-              text: `SYSTEM: You are an advanced AI Resume Parser.
-              
-              TASK: Extract structured resume data from the attached document.
-              
-              RULES:
-              1. **Critically Important**: Extract the candidate's Name, Email, Phone, and LinkedIn URL accurately from the header.
-              2. **Experience**: Extract each role separately. If a role has multiple projects/bullets, group them under 'responsibilities'. 
-              3. **Dates**: Normalize all dates to "Month Year" format (e.g., "Jan 2023"). Use "Present" for current roles.
-              4. **Projects**: Extract project title, description, and technologies used.
-              5. **Skills**: List all technical skills, tools, and languages.
-              
-              RESPONSE FORMAT:
-              Return ONLY a valid JSON object matching this schema. Do not include markdown formatting like \`\`\`json.
-              ${JSON.stringify(PROMPT_SCHEMA, null, 2)}`
-            }
-          ]
-        }
-      ]
-    });
-
-    const text = getResponseText(response);
-    const parsedData = parseJsonFromResponse(text);
-
-    // MAP TO APP SCHEMA (The React App expects specific field names)
-    return {
-      personalInfo: {
-        fullName: parsedData.personalInfo?.fullName || "",
-        email: parsedData.personalInfo?.email || "",
-        phone: parsedData.personalInfo?.phone || "",
-        location: parsedData.personalInfo?.location || "",
-        website: parsedData.personalInfo?.linkedin || parsedData.personalInfo?.portfolio || "", // Map linkedin/portfolio
-        jobTitle: parsedData.experience?.[0]?.jobTitle || "", // Infer if missing
-        summary: parsedData.summary || ""
-      },
-      experience: (parsedData.experience || []).map(exp => ({
-        company: exp.company || "",
-        position: exp.jobTitle || "", // Mapping jobTitle -> position
-        startDate: exp.startDate || "",
-        endDate: exp.endDate || "",
-        description: Array.isArray(exp.responsibilities) ? exp.responsibilities.join('\n• ') : (exp.responsibilities || ""),
-        current: (exp.endDate || "").toLowerCase().includes('present')
-      })),
-      education: (parsedData.education || []).map(edu => ({
-        school: edu.institution || "", // Mapping institution -> school
-        degree: edu.degree || "",
-        startDate: edu.startYear || "",
-        endDate: edu.endYear || "",
-        description: "" // App expects this
-      })),
-      projects: (parsedData.projects || []).map(proj => ({
-        name: proj.title || "", // Mapping title -> name
-        role: "Contributor", // Default
-        link: "",
-        description: `${proj.description || ""} \nTech: ${(proj.technologies || []).join(', ')}`,
-        type: "Key"
-      })),
-      skills: parsedData.skills || [],
-      certifications: parsedData.certifications || [],
-      languages: parsedData.languages || [],
-      socialLinks: [
-        ...(parsedData.personalInfo?.linkedin ? [{ platform: 'LinkedIn', url: parsedData.personalInfo.linkedin }] : []),
-        ...(parsedData.personalInfo?.portfolio ? [{ platform: 'Portfolio', url: parsedData.personalInfo.portfolio }] : [])
-      ]
-    };
-  });
-
-  if (!result) return MOCK_PARSED_RESUME;
-  return result;
-};
-
-// ------------------------------------------------------------------
-// 2. ATS Analysis Logic
+// 1. ATS Analysis Logic
 // ------------------------------------------------------------------
 export const checkAtsScore = async (data) => {
   const result = await callWithRetry(async () => {
@@ -422,7 +298,7 @@ IMPORTANT:
 };
 
 // ------------------------------------------------------------------
-// 3. Summary & Cover Letter Gen
+// 2. Summary & Cover Letter Gen
 // ------------------------------------------------------------------
 export const optimizeSummary = async (jobTitle, skills) => {
   return callWithRetry(async () => {
@@ -456,7 +332,7 @@ export const generateCoverLetter = async (resume, jobTitle, company, desc) => {
 };
 
 // ------------------------------------------------------------------
-// 4. Full Resume Optimization (Auto-Update)
+// 3. Full Resume Optimization (Auto-Update)
 // ------------------------------------------------------------------
 export const optimizeResumeForAts = async (currentData) => {
   return callWithRetry(async () => {
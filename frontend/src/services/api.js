@@ -15,6 +15,26 @@ const getAuthHeaders = () => {
     };
 };
 
+// Section entry request guarded by If-Match; a 412 surfaces as error.conflict like the full updates
+const sendEntryRequest = async (method, path, body, version, contentType) => {
+    const headers = getAuthHeaders();
+    if (contentType) headers['Content-Type'] = contentType;
+    if (version !== undefined && version !== null) headers['If-Match'] = `"${version}"`;
+
+    const response = await fetch(`${API_BASE_URL}/resumes/${path}`, {
+        method,
+        headers,
+        body: body === undefined ? undefined : JSON.stringify(body)
+    });
+    if (response.status === 412) {
+        const error = new Error('Resume was changed elsewhere');
+        error.conflict = true;
+        throw error;
+    }
+    if (!response.ok) throw new Error('Failed to update resume');
+    return response.json();
+};
+
 export const api = {
     // Auth
     login: async (email, password) => {
@@ -54,16 +74,138 @@ export const api = {
         return response.json();
     },
 
-    updateResume: async (id, resumeData) => {
+    // Pass the last known version to fail with 412 instead of overwriting another tab's save
+    updateResume: async (id, resumeData, version) => {
+        const headers = getAuthHeaders();
+        if (version !== undefined && version !== null) headers['If-Match'] = `"${version}"`;
+
         const response = await fetch(`${API_BASE_URL}/resumes/${id}`, {
             method: 'PUT',
-            headers: getAuthHeaders(),
+            headers,
             body: JSON.stringify(resumeData)
         });
+        if (response.status === 412) {
+            const error = new Error('Resume was changed elsewhere');
+            error.conflict = true;
+            throw error;
+        }
+        if (!response.ok) throw new Error('Failed to update resume');
+        return response.json();
+    },
+
+    // Sends only the changed top-level fields (JSON Merge Patch).
+    // Pass the last known version to fail with 412 instead of overwriting another tab's save.
+    patchResume: async (id, patch, version) => {
+        const headers = { ...getAuthHeaders(), 'Content-Type': 'application/merge-patch+json' };
+        if (version !== undefined && version !== null) headers['If-Match'] = `"${version}"`;
+
+        const response = await fetch(`${API_BASE_URL}/resumes/${id}`, {
+            method: 'PATCH',
+            headers,
+            body: JSON.stringify(patch)
+        });
+        if (response.status === 412) {
+            const error = new Error('Resume was changed elsewhere');
+            error.conflict = true;
+            throw error;
+        }
         if (!response.ok) throw new Error('Failed to update resume');
         return response.json();
     },
 
+    // Per-entry updates for list sections (experience, skills, ...); string sections use the value as entryId
+    patchResumeEntry: (id, section, entryId, patch, version) =>
+        sendEntryRequest('PATCH', `${id}/${section}/${encodeURIComponent(entryId)}`, patch, version,
+            'application/merge-patch+json'),
+
+    addResumeEntry: (id, section, entry, version) =>
+        sendEntryRequest('POST', `${id}/${section}`, entry, version),
+
+    removeResumeEntry: (id, section, entryId, version) =>
+        sendEntryRequest('DELETE', `${id}/${section}/${encodeURIComponent(entryId)}`, undefined, version),
+
+    // Lightweight dashboard listing; pass nextCursor from the previous page to continue
+    getResumeSummaries: async (cursor, limit = 20) => {
+        const params = new URLSearchParams({ limit: String(limit) });
+        if (cursor) params.set('cursor', cursor);
+
+        const response = await fetch(`${API_BASE_URL}/resumes/summary?${params}`, {
+            method: 'GET',
+            headers: getAuthHeaders()
+        });
+        if (!response.ok) throw new Error(`Failed to fetch resumes: ${response.status}`);
+        return response.json();
+    },
+
+    // Version history, newest first; pass the last version seen as before to page back
+    getResumeVersions: async (id, before) => {
+        const params = new URLSearchParams();
+        if (before !== undefined && before !== null) params.set('before', String(before));
+
+        const response = await fetch(`${API_BASE_URL}/resumes/${id}/versions?${params}`, {
+            method: 'GET',
+            headers: getAuthHeaders()
+        });
+        if (!response.ok) throw new Error(`Failed to fetch resume history: ${response.status}`);
+        return response.json();
+    },
+
+    getResumeVersion: async (id, version) => {
+        const response = await fetch(`${API_BASE_URL}/resumes/${id}/versions/${version}`, {
+            method: 'GET',
+            headers: getAuthHeaders()
+        });
+        if (!response.ok) throw new Error(`Failed to fetch resume version: ${response.status}`);
+        return response.json();
+    },
+
+    // Saves the old content as a new version and returns the updated resume
+    restoreResumeVersion: async (id, version) => {
+        const response = await fetch(`${API_BASE_URL}/resumes/${id}/versions/${version}/restore`, {
+            method: 'POST',
+            headers: getAuthHeaders()
+        });
+        if (!response.ok) throw new Error('Failed to restore resume version');
+        return response.json();
+    },
+
+    // Full-text search over the user's resumes, best match first; page is zero-based
+    searchResumes: async (query, page = 0, size = 20) => {
+        const params = new URLSearchParams({ q: query, page: String(page), size: String(size) });
+        const response = await fetch(`${API_BASE_URL}/resumes/search?${params}`, {
+            method: 'GET',
+            headers: getAuthHeaders()
+        });
+        if (!response.ok) throw new Error(`Failed to search resumes: ${response.status}`);
+        return response.json();
+    },
+
+    // Parses an uploaded PDF/DOCX on the server; returns resume fields, nothing is saved
+    importResume: async (file) => {
+        const formData = new FormData();
+        formData.append('file', file);
+
+        const token = localStorage.getItem('token');
+        const response = await fetch(`${API_BASE_URL}/resumes/import`, {
+            method: 'POST',
+            // No Content-Type: the browser sets the multipart boundary itself
+            headers: token ? { 'Authorization': `Bearer ${token}` } : {},
+            body: formData
+        });
+        if (response.status === 413) throw new Error('Uploaded file is too large');
+        if (!response.ok) throw new Error((await response.text()) || 'Failed to import resume');
+        return response.json();
+    },
+
+    getResume: async (id) => {
+        const response = await fetch(`${API_BASE_URL}/resumes/${id}`, {
+            method: 'GET',
+            headers: getAuthHeaders()
+        });
+        if (!response.ok) throw new Error(`Failed to fetch resume: ${response.status}`);
+        return response.json();
+    },
+
     getMyResumes: async () => {
         try {
             const response = await fetch(`${API_BASE_URL}/resumes`, {
@@ -0,0 +1,224 @@
+// Turns local edits into the smallest set of server updates, and replays them
+// onto a newer server copy when another tab or device saved first.
+
+// Sections whose entries carry an id, and the entry fields the server accepts
+const ENTRY_SECTIONS = {
+  experience: ['company', 'position', 'startDate', 'endDate', 'description', 'current'],
+  education: ['school', 'degree', 'startDate', 'endDate', 'description'],
+  projects: ['name', 'role', 'link', 'description', 'type'],
+  socialLinks: ['platform', 'url']
+};
+
+// Sections of plain strings, identified by value
+const STRING_SECTIONS = ['skills', 'certifications', 'languages'];
+
+const TEXT_FIELDS = ['coverLetter', 'themeColor', 'template'];
+
+// Past this many entry requests in one save, whole sections are sent instead
+const MAX_ENTRY_OPS = 6;
+
+const same = (a, b) => JSON.stringify(a) === JSON.stringify(b);
+
+const orNull = (value) => (value === undefined ? null : value);
+
+// Entries by id, or null if any entry lacks an id or ids repeat
+const byId = (list) => {
+  if (!Array.isArray(list)) return null;
+  const entries = new Map();
+  for (const entry of list) {
+    if (!entry || !entry.id || entries.has(entry.id)) return null;
+    entries.set(entry.id, entry);
+  }
+  return entries;
+};
+
+// Entry requests that turn one section from previous into current, or null
+// when only a whole-section update can express the change (e.g. a reorder)
+const entryOps = (section, previous, current) => {
+  const fields = ENTRY_SECTIONS[section];
+  const before = byId(previous || []);
+  const after = byId(current || []);
+  if (!before || !after) return null;
+
+  // Entries present on both sides must keep their relative order
+  const kept = (current || []).filter(entry => before.has(entry.id)).map(entry => entry.id);
+  const keptBefore = (previous || []).filter(entry => after.has(entry.id)).map(entry => entry.id);
+  if (!same(kept, keptBefore)) return null;
+
+  // New entries can only be appended
+  const firstAdded = (current || []).findIndex(entry => !before.has(entry.id));
+  if (firstAdded >= 0 && (current || []).slice(firstAdded).some(entry => before.has(entry.id))) return null;
+
+  const ops = [];
+  for (const entry of previous || []) {
+    if (!after.has(entry.id)) ops.push({ type: 'removeEntry', section, entryId: entry.id });
+  }
+  for (const entry of current || []) {
+    const old = before.get(entry.id);
+    if (!old) {
+      ops.push({ type: 'addEntry', section, entry });
+      continue;
+    }
+    const patch = {};
+    for (const key of new Set([...Object.keys(old), ...Object.keys(entry)])) {
+      if (key === 'id' || same(old[key], entry[key])) continue;
+      if (!fields.includes(key)) return null;
+      patch[key] = orNull(entry[key]);
+    }
+    if (Object.keys(patch).length > 0) ops.push({ type: 'patchEntry', section, entryId: entry.id, patch });
+  }
+  return ops;
+};
+
+// Add/remove requests for a string section, or null for anything but appends and removals
+const stringOps = (section, previous, current) => {
+  const before = previous || [];
+  const after = current || [];
+  if (new Set(before).size !== before.length || new Set(after).size !== after.length) return null;
+
+  const kept = after.filter(value => before.includes(value));
+  if (!same(kept, before.filter(value => after.includes(value)))) return null;
+  const firstAdded = after.findIndex(value => !before.includes(value));
+  if (firstAdded >= 0 && after.slice(firstAdded).some(value => before.includes(value))) return null;
+
+  return [
+    ...before.filter(value => !after.includes(value)).map(value => ({ type: 'removeEntry', section, entryId: value })),
+    ...after.filter(value => !before.includes(value)).map(value => ({ type: 'addEntry', section, entry: value }))
+  ];
+};
+
+/**
+ * Requests that bring the server from previous to current: one merge patch for
+ * personal info and text fields, and per-entry requests for list sections.
+ */
+export const buildSaveOps = (previous, current) => {
+  const patch = {};
+  let listOps = [];
+  const wholeSections = [];
+
+  if (!same(previous.personalInfo, current.personalInfo)) {
+    const before = previous.personalInfo || {};
+    const after = current.personalInfo || {};
+    const info = {};
+    for (const key of new Set([...Object.keys(before), ...Object.keys(after)])) {
+      if (!same(before[key], after[key])) info[key] = orNull(after[key]);
+    }
+    patch.personalInfo = info;
+  }
+
+  TEXT_FIELDS.forEach(field => {
+    if (!same(previous[field], current[field])) patch[field] = orNull(current[field]);
+  });
+
+  [...Object.keys(ENTRY_SECTIONS), ...STRING_SECTIONS].forEach(section => {
+    if (same(previous[section], current[section])) return;
+    const ops = ENTRY_SECTIONS[section]
+      ? entryOps(section, previous[section], current[section])
+      : stringOps(section, previous[section], current[section]);
+    if (ops) listOps = listOps.concat(ops);
+    else wholeSections.push(section);
+  });
+
+  if (listOps.length > MAX_ENTRY_OPS) {
+    listOps.forEach(op => {
+      if (!wholeSections.includes(op.section)) wholeSections.push(op.section);
+    });
+    listOps = [];
+  }
+  wholeSections.forEach(section => {
+    patch[section] = orNull(current[section]);
+  });
+
+  const ops = Object.keys(patch).length > 0 ? [{ type: 'patch', patch }] : [];
+  return ops.concat(listOps);
+};
+
+// Field-by-field three-way merge of a flat object; conflicting keys keep the local
+// value and are reported under prefix
+const mergeObject = (base, local, remote, prefix, conflicts) => {
+  const merged = { ...(remote || {}) };
+  const from = base || {};
+  const mine = local || {};
+  for (const key of new Set([...Object.keys(from), ...Object.keys(mine)])) {
+    if (same(from[key], mine[key]) || same(merged[key], mine[key])) continue;
+    if (!same(merged[key], from[key])) conflicts.push(`${prefix}.${key}`);
+    merged[key] = mine[key];
+  }
+  return merged;
+};
+
+const mergeEntries = (section, base, local, remote, conflicts) => {
+  const baseEntries = byId(base || []);
+  const localEntries = byId(local || []);
+  const remoteEntries = byId(remote || []);
+  if (!baseEntries || !localEntries || !remoteEntries) {
+    conflicts.push(section);
+    return local;
+  }
+
+  let merged = [...(remote || [])];
+  for (const [id, entry] of baseEntries) {
+    if (localEntries.has(id)) continue;
+    // Removed here; a conflict if the other side changed it meanwhile
+    if (remoteEntries.has(id) && !same(remoteEntries.get(id), entry)) conflicts.push(`${section}.${id}`);
+    merged = merged.filter(item => item.id !== id);
+  }
+  for (const [id, entry] of localEntries) {
+    const original = baseEntries.get(id);
+    const theirs = remoteEntries.get(id);
+    if (!theirs) {
+      // Removed on the other side while edited here
+      if (original && !same(original, entry)) conflicts.push(`${section}.${id}`);
+      if (!original || !same(original, entry)) merged.push(entry);
+    } else if (!original) {
+      if (!same(theirs, entry)) conflicts.push(`${section}.${id}`);
+      merged = merged.map(item => (item.id === id ? entry : item));
+    } else if (!same(original, entry)) {
+      merged = merged.map(item => (item.id === id
+        ? mergeObject(original, entry, theirs, `${section}.${id}`, conflicts)
+        : item));
+    }
+  }
+  return merged;
+};
+
+const mergeStrings = (base, local, remote) => {
+  const before = base || [];
+  const mine = local || [];
+  const removed = before.filter(value => !mine.includes(value));
+  const added = mine.filter(value => !before.includes(value));
+  const merged = (remote || []).filter(value => !removed.includes(value));
+  added.forEach(value => {
+    if (!merged.includes(value)) merged.push(value);
+  });
+  return merged;
+};
+
+/**
+ * Replay the edits made since base onto a newer server copy. Returns the
+ * merged resume (at the server's version) and the fields both sides changed
+ * differently; those keep the local value until the user resolves them.
+ */
+export const rebaseResume = (base, local, remote) => {
+  const merged = { ...local, ...remote };
+  const conflicts = [];
+
+  [...Object.keys(ENTRY_SECTIONS), ...STRING_SECTIONS, 'personalInfo', ...TEXT_FIELDS].forEach(field => {
+    if (same(base[field], local[field]) || same(remote[field], local[field])) {
+      merged[field] = remote[field];
+    } else if (same(remote[field], base[field])) {
+      merged[field] = local[field];
+    } else if (ENTRY_SECTIONS[field]) {
+      merged[field] = mergeEntries(field, base[field], local[field], remote[field], conflicts);
+    } else if (STRING_SECTIONS.includes(field)) {
+      merged[field] = mergeStrings(base[field], local[field], remote[field]);
+    } else if (field === 'personalInfo') {
+      merged[field] = mergeObject(base[field], local[field], remote[field], field, conflicts);
+    } else {
+      conflicts.push(field);
+      merged[field] = local[field];
+    }
+  });
+
+  return { merged, conflicts };
+};